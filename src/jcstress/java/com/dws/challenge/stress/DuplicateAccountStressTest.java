@@ -0,0 +1,54 @@
+package com.dws.challenge.stress;
+
+import static com.dws.challenge.stress.StressFixtures.balance;
+
+import com.dws.challenge.exception.DuplicateAccountIdException;
+import com.dws.challenge.service.AccountsService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+/**
+ * Two concurrent creations of the same account id: exactly one wins and its balance is the one
+ * stored.
+ */
+@JCStressTest
+@Description("Concurrent createAccount of the same id with balances 10 and 20.")
+@Outcome(id = "1, 0, 10", expect = Expect.ACCEPTABLE, desc = "First creation won.")
+@Outcome(id = "0, 1, 20", expect = Expect.ACCEPTABLE, desc = "Second creation won.")
+@Outcome(id = "1, 1, .*", expect = Expect.FORBIDDEN, desc = "Both creations accepted.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Winner and stored balance disagree.")
+@State
+public class DuplicateAccountStressTest {
+
+  private final AccountsService accountsService = StressFixtures.accountsService();
+
+  @Actor
+  public void createTen(III_Result r) {
+    r.r1 = tryCreate(10);
+  }
+
+  @Actor
+  public void createTwenty(III_Result r) {
+    r.r2 = tryCreate(20);
+  }
+
+  @Arbiter
+  public void storedBalance(III_Result r) {
+    r.r3 = balance(accountsService, "A");
+  }
+
+  private int tryCreate(int balance) {
+    try {
+      StressFixtures.createAccount(accountsService, "A", balance);
+      return 1;
+    } catch (DuplicateAccountIdException e) {
+      return 0;
+    }
+  }
+}
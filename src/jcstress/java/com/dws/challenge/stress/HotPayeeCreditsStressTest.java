@@ -0,0 +1,63 @@
+package com.dws.challenge.stress;
+
+import static com.dws.challenge.stress.StressFixtures.balance;
+import static com.dws.challenge.stress.StressFixtures.transfer;
+
+import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.hotspot.HotAccountTracker;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Two payers crediting a hot payee through the hot account lane, which does not lock the payee,
+ * while a reader folds its pending credits: no credit may be lost or applied twice.
+ */
+@JCStressTest
+@Description("Credits A->H and B->H through the hot account lane racing with a read of H.")
+@Outcome(id = "100, 120", expect = Expect.ACCEPTABLE, desc = "Read before both credits.")
+@Outcome(id = "110, 120", expect = Expect.ACCEPTABLE, desc = "Read between the credits.")
+@Outcome(id = "120, 120", expect = Expect.ACCEPTABLE, desc = "Read after both credits.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Credit lost or folded twice.")
+@State
+public class HotPayeeCreditsStressTest {
+
+  private final AccountsService accountsService =
+      StressFixtures.accountsService(new HotAccountTracker(false, 16, 1, 1.0, 1, 16) {
+        @Override
+        public boolean isHot(String accountId) {
+          return accountId.equals("H");
+        }
+      });
+
+  public HotPayeeCreditsStressTest() {
+    StressFixtures.createAccount(accountsService, "A", 100);
+    StressFixtures.createAccount(accountsService, "B", 100);
+    StressFixtures.createAccount(accountsService, "H", 100);
+  }
+
+  @Actor
+  public void aToHot() {
+    accountsService.transferAmount(transfer("A", "H", 10));
+  }
+
+  @Actor
+  public void bToHot() {
+    accountsService.transferAmount(transfer("B", "H", 10));
+  }
+
+  @Actor
+  public void readHot(II_Result r) {
+    r.r1 = balance(accountsService, "H");
+  }
+
+  @Arbiter
+  public void settledBalance(II_Result r) {
+    r.r2 = balance(accountsService, "H");
+  }
+}
@@ -0,0 +1,49 @@
+package com.dws.challenge.stress;
+
+import static com.dws.challenge.stress.StressFixtures.balance;
+import static com.dws.challenge.stress.StressFixtures.transfer;
+
+import com.dws.challenge.service.AccountsService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Two transfers in opposite directions between the same accounts. With inconsistent lock ordering
+ * they deadlock, which jcstress reports as a stuck test; with unguarded updates one is lost.
+ */
+@JCStressTest
+@Description("Opposing transfers A->B and B->A.")
+@Outcome(id = "110, 90", expect = Expect.ACCEPTABLE, desc = "Both transfers applied.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Lost or torn update.")
+@State
+public class OpposingTransfersStressTest {
+
+  private final AccountsService accountsService = StressFixtures.accountsService();
+
+  public OpposingTransfersStressTest() {
+    StressFixtures.createAccount(accountsService, "A", 100);
+    StressFixtures.createAccount(accountsService, "B", 100);
+  }
+
+  @Actor
+  public void aToB() {
+    accountsService.transferAmount(transfer("A", "B", 10));
+  }
+
+  @Actor
+  public void bToA() {
+    accountsService.transferAmount(transfer("B", "A", 20));
+  }
+
+  @Arbiter
+  public void balances(II_Result r) {
+    r.r1 = balance(accountsService, "A");
+    r.r2 = balance(accountsService, "B");
+  }
+}
@@ -0,0 +1,62 @@
+package com.dws.challenge.stress;
+
+import static com.dws.challenge.stress.StressFixtures.balance;
+import static com.dws.challenge.stress.StressFixtures.transfer;
+
+import com.dws.challenge.exception.TransferAmountException;
+import com.dws.challenge.service.AccountsService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+/**
+ * Two transfers racing for a balance that covers only one of them: exactly one must succeed, the
+ * payer must never go negative.
+ */
+@JCStressTest
+@Description("Transfers A->B and A->C of 70 each from a balance of 100.")
+@Outcome(id = "30, 70, 0", expect = Expect.ACCEPTABLE, desc = "A->B won, A->C rejected.")
+@Outcome(id = "30, 0, 70", expect = Expect.ACCEPTABLE, desc = "A->C won, A->B rejected.")
+@Outcome(id = "-40, 70, 70", expect = Expect.FORBIDDEN, desc = "Overdraft, both passed the check.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Lost or torn update.")
+@State
+public class OverdraftStressTest {
+
+  private final AccountsService accountsService = StressFixtures.accountsService();
+
+  public OverdraftStressTest() {
+    StressFixtures.createAccount(accountsService, "A", 100);
+    StressFixtures.createAccount(accountsService, "B", 0);
+    StressFixtures.createAccount(accountsService, "C", 0);
+  }
+
+  @Actor
+  public void aToB() {
+    tryTransfer("B");
+  }
+
+  @Actor
+  public void aToC() {
+    tryTransfer("C");
+  }
+
+  @Arbiter
+  public void balances(III_Result r) {
+    r.r1 = balance(accountsService, "A");
+    r.r2 = balance(accountsService, "B");
+    r.r3 = balance(accountsService, "C");
+  }
+
+  private void tryTransfer(String payee) {
+    try {
+      accountsService.transferAmount(transfer("A", payee, 70));
+    } catch (TransferAmountException e) {
+      // insufficient funds, the expected outcome for the loser
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.dws.challenge.stress;
+
+import static com.dws.challenge.stress.StressFixtures.balance;
+import static com.dws.challenge.stress.StressFixtures.transfer;
+
+import com.dws.challenge.service.AccountsService;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+/**
+ * A transfer to the payer itself racing with a regular transfer of the same payer: the first is
+ * always rejected without touching the balance, the second always applied.
+ */
+@JCStressTest
+@Description("Transfer A->A racing with A->B.")
+@Outcome(id = "1, 90, 110", expect = Expect.ACCEPTABLE, desc = "A->A rejected, A->B applied.")
+@Outcome(id = "0, .*", expect = Expect.FORBIDDEN, desc = "A->A accepted.")
+@Outcome(expect = Expect.FORBIDDEN, desc = "Lost or torn update.")
+@State
+public class SameAccountRejectionStressTest {
+
+  private final AccountsService accountsService = StressFixtures.accountsService();
+  private int rejected;
+
+  public SameAccountRejectionStressTest() {
+    StressFixtures.createAccount(accountsService, "A", 100);
+    StressFixtures.createAccount(accountsService, "B", 100);
+  }
+
+  @Actor
+  public void aToA() {
+    try {
+      accountsService.transferAmount(transfer("A", "A", 10));
+    } catch (IllegalArgumentException e) {
+      rejected = 1;
+    }
+  }
+
+  @Actor
+  public void aToB() {
+    accountsService.transferAmount(transfer("A", "B", 10));
+  }
+
+  @Arbiter
+  public void balances(III_Result r) {
+    r.r1 = rejected;
+    r.r2 = balance(accountsService, "A");
+    r.r3 = balance(accountsService, "B");
+  }
+}
@@ -0,0 +1,59 @@
+package com.dws.challenge.stress;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import com.dws.challenge.repository.AccountsRepositoryInMemory;
+import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.audit.LedgerAggregates;
+import com.dws.challenge.service.fx.FxRateService;
+import com.dws.challenge.service.holds.AccountHolds;
+import com.dws.challenge.service.hotspot.HotAccountCredits;
+import com.dws.challenge.service.hotspot.HotAccountTracker;
+import com.dws.challenge.service.streaming.BalanceChangePublisher;
+import java.math.BigDecimal;
+import java.time.Duration;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Builds the transfer engine outside Spring for the stress tests.
+ * Each test state gets its own repository, service and collaborators keeping per-account state or
+ * totals; the stateless ones are shared, so that building a state stays cheap.
+ */
+final class StressFixtures {
+
+  private static final HotAccountTracker NO_HOT_ACCOUNTS =
+      new HotAccountTracker(false, 16, 1, 1.0, 1, 16);
+  // never dispatches without subscribers, so its threads are never started
+  private static final BalanceChangePublisher BALANCE_CHANGE_PUBLISHER =
+      new BalanceChangePublisher(1, Duration.ofSeconds(10));
+  private static final FxRateService FX_RATE_SERVICE = new FxRateService("EUR",
+      new ClassPathResource("fx-rates.properties"), Duration.ofHours(1));
+
+  private StressFixtures() {
+  }
+
+  static AccountsService accountsService() {
+    return accountsService(NO_HOT_ACCOUNTS);
+  }
+
+  /**
+   * @param hotAccountTracker decides which payees go through the hot account lane.
+   */
+  static AccountsService accountsService(HotAccountTracker hotAccountTracker) {
+    return new AccountsService(new AccountsRepositoryInMemory(), (account, description) -> { },
+        hotAccountTracker, new HotAccountCredits(), new AccountHolds(), BALANCE_CHANGE_PUBLISHER,
+        new LedgerAggregates("EUR"), FX_RATE_SERVICE);
+  }
+
+  static void createAccount(AccountsService accountsService, String accountId, int balance) {
+    accountsService.createAccount(new Account(accountId, BigDecimal.valueOf(balance)));
+  }
+
+  static TransferAmountCommand transfer(String from, String to, int amount) {
+    return new TransferAmountCommand(from, to, BigDecimal.valueOf(amount));
+  }
+
+  static int balance(AccountsService accountsService, String accountId) {
+    return accountsService.getAccount(accountId).getBalance().intValueExact();
+  }
+}
@@ -0,0 +1,123 @@
+package com.dws.challenge.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Latency seen by request threads when logging a transfer, with the file writes done on the
+ * calling thread ({@code sync}) or by Logback's queue based {@link AsyncAppender}, configured as in
+ * {@code logback-spring.xml}. The asynchronous appender drops events rather than block when full,
+ * so its numbers also reflect what a saturated logger discards.
+ * The {@code rejection} benchmarks compare the former formatted ERROR line with the sampled
+ * structured event now logged for a business rejection.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class LoggingBenchmark {
+
+  @Param({"sync", "logbackAsync"})
+  public String appender;
+
+  private LoggerContext context;
+  private Logger logger;
+  private File file;
+  private final LogRateLimiter rejectionLimiter = new LogRateLimiter(10, Duration.ofSeconds(1));
+  private final BigDecimal amount = new BigDecimal("12.50");
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    context = new LoggerContext();
+    context.setMDCAdapter(new LogbackMDCAdapter());
+    file = Files.createTempFile("logging-benchmark", ".log").toFile();
+
+    PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(context);
+    encoder.setPattern("%d %5p [%t] %logger{39} : %m %kvp%n");
+    encoder.start();
+    FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+    fileAppender.setContext(context);
+    fileAppender.setName("FILE");
+    fileAppender.setFile(file.getAbsolutePath());
+    fileAppender.setEncoder(encoder);
+    fileAppender.start();
+
+    logger = context.getLogger("com.dws.challenge.service.AccountsService");
+    logger.setLevel(ch.qos.logback.classic.Level.INFO);
+    logger.addAppender(wrap(fileAppender));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.stop();
+    file.delete();
+  }
+
+  @Benchmark
+  public void transferCompleted() {
+    logger.atInfo().setMessage("transfer.completed")
+        .addKeyValue("from", "Id-123")
+        .addKeyValue("to", "Id-456")
+        .addKeyValue("amount", amount)
+        .log();
+  }
+
+  @Benchmark
+  public void formattedRejection() {
+    String message = String.format("Insufficient fund balance in account number : %s.", "Id-123");
+    logger.error(message);
+  }
+
+  @Benchmark
+  public void sampledRejection() {
+    long suppressed = rejectionLimiter.tryAcquire("insufficient_funds");
+    if (suppressed >= 0) {
+      logger.atWarn().setMessage("transfer.rejected")
+          .addKeyValue("reason", "insufficient_funds")
+          .addKeyValue("accountId", "Id-123")
+          .addKeyValue("suppressed", suppressed)
+          .log();
+    }
+  }
+
+  private Appender<ILoggingEvent> wrap(FileAppender<ILoggingEvent> fileAppender) {
+    switch (appender) {
+      case "logbackAsync" -> {
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setNeverBlock(true);
+        async.setQueueSize(8192);
+        async.addAppender(fileAppender);
+        async.start();
+        return async;
+      }
+      default -> {
+        return fileAppender;
+      }
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.dws.challenge.service.fx;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of a cross-currency conversion through the precomputed fixed-point rates of
+ * {@link FxRates}, against dividing the per-base rates as {@link BigDecimal} on every conversion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FxRatesBenchmark {
+
+  private final Map<String, BigDecimal> ratesPerBase = Map.of("EUR", BigDecimal.ONE,
+      "USD", new BigDecimal("1.0852"), "GBP", new BigDecimal("0.8571"),
+      "JPY", new BigDecimal("162.35"));
+
+  private FxRates rates;
+  private BigDecimal amount;
+
+  @Setup
+  public void setUp() {
+    rates = new FxRates("EUR", ratesPerBase, Instant.now());
+    amount = new BigDecimal("1050.25");
+  }
+
+  @Benchmark
+  public BigDecimal fixedPoint() {
+    return rates.convert(amount, "GBP", "USD");
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalDivide() {
+    BigDecimal rate = ratesPerBase.get("USD")
+        .divide(ratesPerBase.get("GBP"), FxRates.RATE_SCALE, RoundingMode.HALF_EVEN);
+    return amount.multiply(rate).setScale(2, RoundingMode.HALF_EVEN);
+  }
+}
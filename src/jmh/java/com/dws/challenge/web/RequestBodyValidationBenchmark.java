@@ -0,0 +1,55 @@
+package com.dws.challenge.web;
+
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import jakarta.validation.Validation;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+/**
+ * Compares Hibernate Validator with the precompiled {@link RequestBodyValidator} on a valid
+ * transfer request, which is what almost every request looks like.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RequestBodyValidationBenchmark {
+
+  private Validator beanValidator;
+  private Validator precompiledValidator;
+  private TransferAmountCommand command;
+
+  @Setup
+  public void setUp() {
+    beanValidator = new SpringValidatorAdapter(
+        Validation.buildDefaultValidatorFactory().getValidator());
+    precompiledValidator = new RequestBodyValidator();
+    command = new TransferAmountCommand("Id-123", "Id-456", new BigDecimal("12.50"));
+  }
+
+  @Benchmark
+  public Errors beanValidation() {
+    return validate(beanValidator);
+  }
+
+  @Benchmark
+  public Errors precompiledValidation() {
+    return validate(precompiledValidator);
+  }
+
+  private Errors validate(Validator validator) {
+    Errors errors = new BeanPropertyBindingResult(command, "transferAmountCommand");
+    validator.validate(command, errors);
+    return errors;
+  }
+}
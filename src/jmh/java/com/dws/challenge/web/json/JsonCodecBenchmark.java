@@ -0,0 +1,65 @@
+package com.dws.challenge.web.json;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.aggregate.TransferResponse;
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import com.dws.challenge.domain.valueobject.TransferStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compares the reflection based Jackson (de)serializers with the hand-written codecs registered
+ * by {@link DomainJsonModule}, on the payloads of the account and transfer endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+  @Param({"reflection", "codec"})
+  private String mapper;
+
+  private ObjectMapper objectMapper;
+  private Account account;
+  private TransferResponse transferResponse;
+  private byte[] transferRequest;
+
+  @Setup
+  public void setUp() {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+    if ("codec".equals(mapper)) {
+      builder.modulesToInstall(new DomainJsonModule());
+    }
+    objectMapper = builder.build();
+    account = new Account("Id-123", new BigDecimal("1050.25"));
+    transferResponse = new TransferResponse(TransferStatus.SUCCESS, new BigDecimal("12.50"));
+    transferRequest = "{\"accountFromId\":\"Id-123\",\"accountToId\":\"Id-456\",\"amount\":12.50}"
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public byte[] serializeAccount() throws Exception {
+    return objectMapper.writeValueAsBytes(account);
+  }
+
+  @Benchmark
+  public byte[] serializeTransferResponse() throws Exception {
+    return objectMapper.writeValueAsBytes(transferResponse);
+  }
+
+  @Benchmark
+  public TransferAmountCommand deserializeTransferAmountCommand() throws Exception {
+    return objectMapper.readValue(transferRequest, TransferAmountCommand.class);
+  }
+}
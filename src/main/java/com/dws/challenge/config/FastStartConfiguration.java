@@ -0,0 +1,44 @@
+package com.dws.challenge.config;
+
+import com.dws.challenge.repository.AccountsRepository;
+import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.audit.LedgerVerifier;
+import com.dws.challenge.service.holds.HoldsService;
+import com.dws.challenge.service.scheduling.ScheduledTransferService;
+import com.dws.challenge.service.streaming.PendingCreditsPublisher;
+import com.dws.challenge.web.AccountsController;
+import com.dws.challenge.web.RequestBodyValidator;
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup settings for the {@code faststart} profile.
+ */
+@Configuration(proxyBeanMethods = false)
+public class FastStartConfiguration {
+
+  /**
+   * Keeps the beans serving account and transfer requests eager when
+   * {@code spring.main.lazy-initialization} is enabled, so a new instance is ready for its first
+   * transfer as soon as it reports started.
+   * @return filter excluding the request path beans from lazy initialization.
+   */
+  @Bean
+  static LazyInitializationExcludeFilter requestPathEagerInitialization() {
+    return LazyInitializationExcludeFilter.forBeanTypes(AccountsController.class,
+        AccountsService.class, AccountsRepository.class, RequestBodyValidator.class, Module.class);
+  }
+
+  /**
+   * Keeps the beans running background tasks eager, as no other bean depends on them and they
+   * would otherwise never be created.
+   * @return filter excluding the background task beans from lazy initialization.
+   */
+  @Bean
+  static LazyInitializationExcludeFilter backgroundTasksEagerInitialization() {
+    return LazyInitializationExcludeFilter.forBeanTypes(PendingCreditsPublisher.class,
+        LedgerVerifier.class, HoldsService.class, ScheduledTransferService.class);
+  }
+}
@@ -1,10 +1,12 @@
 package com.dws.challenge.domain;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import java.math.BigDecimal;
 import lombok.Data;
 
@@ -20,15 +22,29 @@ public class Account {
   @Min(value = 0, message = "Initial balance must be positive.")
   private BigDecimal balance;
 
+  /**
+   * ISO 4217 code of the balance currency, null for the base currency of the exchange rates.
+   */
+  @Pattern(regexp = "[A-Z]{3}", message = "must be an ISO 4217 currency code")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String currency;
+
   public Account(String accountId) {
     this.accountId = accountId;
     this.balance = BigDecimal.ZERO;
+    this.currency = null;
+  }
+
+  public Account(String accountId, BigDecimal balance) {
+    this(accountId, balance, null);
   }
 
   @JsonCreator
   public Account(@JsonProperty("accountId") String accountId,
-                 @JsonProperty("balance") BigDecimal balance) {
+                 @JsonProperty("balance") BigDecimal balance,
+                 @JsonProperty("currency") String currency) {
     this.accountId = accountId;
     this.balance = balance;
+    this.currency = currency;
   }
 }
\ No newline at end of file
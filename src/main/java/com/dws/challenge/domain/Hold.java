@@ -0,0 +1,21 @@
+package com.dws.challenge.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Funds reserved on a payer account for a later transfer to a payee account.
+ * Held funds still belong to the ledger balance of the payer but are not available to spend.
+ * @param holdId id of the hold.
+ * @param accountFromId account the funds are reserved on.
+ * @param accountToId account receiving the funds when the hold is captured.
+ * @param amount reserved amount.
+ * @param expiresAt time after which the hold is released on its own.
+ */
+public record Hold(String holdId, String accountFromId, String accountToId, BigDecimal amount,
+                   Instant expiresAt) {
+
+  public boolean isExpired(Instant now) {
+    return !now.isBefore(expiresAt);
+  }
+}
@@ -0,0 +1,32 @@
+package com.dws.challenge.domain;
+
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import com.dws.challenge.domain.valueobject.ScheduledTransferStatus;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Data;
+
+/**
+ * Transfer waiting for its execution time. Recurring transfers stay {@code PENDING} between
+ * executions and keep the outcome of the last one.
+ */
+@Data
+public class ScheduledTransfer {
+
+  private final String scheduledTransferId;
+  private final TransferAmountCommand transfer;
+  private final Duration interval;
+  private final Duration jitter;
+
+  private ScheduledTransferStatus status = ScheduledTransferStatus.PENDING;
+  // planned time of the next execution, before jitter
+  private Instant nextExecutionAt;
+  private long executions;
+  private String lastError;
+  // end of the retention of a finished or cancelled transfer, null while it is not started
+  private Instant purgeAt;
+
+  public boolean isRecurring() {
+    return interval != null;
+  }
+}
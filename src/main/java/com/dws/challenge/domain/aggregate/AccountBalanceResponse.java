@@ -0,0 +1,13 @@
+package com.dws.challenge.domain.aggregate;
+
+import java.math.BigDecimal;
+
+/**
+ * Account balance DTO.
+ * @param accountId id of the account.
+ * @param ledgerBalance balance of the account, including held funds.
+ * @param availableBalance part of the ledger balance not reserved by active holds.
+ */
+public record AccountBalanceResponse(String accountId, BigDecimal ledgerBalance,
+                                     BigDecimal availableBalance) {
+}
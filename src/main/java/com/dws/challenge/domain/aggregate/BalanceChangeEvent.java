@@ -0,0 +1,13 @@
+package com.dws.challenge.domain.aggregate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Balance change pushed to the subscribers of an account.
+ * @param accountId id of the account.
+ * @param balance ledger balance of the account after the change.
+ * @param changedAt time of the change.
+ */
+public record BalanceChangeEvent(String accountId, BigDecimal balance, Instant changedAt) {
+}
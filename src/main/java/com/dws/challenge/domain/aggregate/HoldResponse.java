@@ -0,0 +1,17 @@
+package com.dws.challenge.domain.aggregate;
+
+import com.dws.challenge.domain.valueobject.HoldStatus;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Hold response DTO.
+ * @param holdId id to capture or release the hold.
+ * @param status status of the hold after the operation.
+ * @param amount amount reserved by the hold, in the payer account currency.
+ * @param capturedAmount amount transferred to the payee, null unless captured.
+ * @param expiresAt time after which the hold is released on its own.
+ */
+public record HoldResponse(String holdId, HoldStatus status, BigDecimal amount,
+                           BigDecimal capturedAmount, Instant expiresAt) {
+}
@@ -0,0 +1,13 @@
+package com.dws.challenge.domain.aggregate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Ledger totals DTO.
+ * @param totalBalances book balance of all accounts per currency, including credits pending in the
+ *     hot account lane.
+ * @param transferCount number of successful transfers.
+ */
+public record LedgerTotalsResponse(Map<String, BigDecimal> totalBalances, long transferCount) {
+}
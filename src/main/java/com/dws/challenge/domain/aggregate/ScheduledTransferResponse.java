@@ -0,0 +1,28 @@
+package com.dws.challenge.domain.aggregate;
+
+import com.dws.challenge.domain.ScheduledTransfer;
+import com.dws.challenge.domain.valueobject.ScheduledTransferStatus;
+import java.time.Instant;
+
+/**
+ * Scheduled transfer response DTO.
+ * @param scheduledTransferId id to query or cancel the scheduled transfer.
+ * @param status current status of the scheduled transfer.
+ * @param nextExecutionAt planned time of the next execution, before jitter.
+ * @param executions number of executions so far.
+ * @param lastError failure message of the last execution, if it failed.
+ */
+public record ScheduledTransferResponse(String scheduledTransferId,
+                                        ScheduledTransferStatus status,
+                                        Instant nextExecutionAt,
+                                        long executions,
+                                        String lastError) {
+
+  public static ScheduledTransferResponse of(ScheduledTransfer scheduledTransfer) {
+    synchronized (scheduledTransfer) {
+      return new ScheduledTransferResponse(scheduledTransfer.getScheduledTransferId(),
+          scheduledTransfer.getStatus(), scheduledTransfer.getNextExecutionAt(),
+          scheduledTransfer.getExecutions(), scheduledTransfer.getLastError());
+    }
+  }
+}
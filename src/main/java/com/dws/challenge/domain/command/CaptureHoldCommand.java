@@ -0,0 +1,13 @@
+package com.dws.challenge.domain.command;
+
+import jakarta.validation.constraints.DecimalMin;
+import java.math.BigDecimal;
+
+/**
+ * Command settling a hold. Without an amount the full hold is captured, otherwise the given part
+ * is transferred and the remainder released.
+ */
+public record CaptureHoldCommand(
+    @DecimalMin(value = "0.0", inclusive = false, message = "Capture amount must be greater than zero")
+    BigDecimal amount) {
+}
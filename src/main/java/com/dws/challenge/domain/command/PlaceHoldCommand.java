@@ -0,0 +1,31 @@
+package com.dws.challenge.domain.command;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Command reserving funds on the payer account for a later capture to the payee account.
+ * The amount must be greater than zero; without a time to live the configured default applies.
+ * The optional currency is the one the amount is given in, the payer account currency if absent;
+ * the amount is held, and later captured, in the payer account currency.
+ */
+public record PlaceHoldCommand(
+    @NotNull(message = "AccountFromId must not be null")
+    String accountFromId,
+    @NotNull(message = "AccountToId must not be null")
+    String accountToId,
+    @NotNull(message = "Hold amount must not be null")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Hold amount must be greater than zero")
+    BigDecimal amount,
+    Duration ttl,
+    @Pattern(regexp = "[A-Z]{3}", message = "must be an ISO 4217 currency code")
+    String currency) {
+
+  public PlaceHoldCommand(String accountFromId, String accountToId, BigDecimal amount,
+                          Duration ttl) {
+    this(accountFromId, accountToId, amount, ttl, null);
+  }
+}
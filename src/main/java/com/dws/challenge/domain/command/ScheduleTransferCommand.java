@@ -0,0 +1,23 @@
+package com.dws.challenge.domain.command;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Command scheduling a transfer at a future time, optionally repeated.
+ * @param transfer transfer to execute.
+ * @param executeAt time of the first execution.
+ * @param interval time between two executions, null for a one-off transfer.
+ * @param jitter maximum random delay added to every execution to spread load peaks, may be null.
+ */
+public record ScheduleTransferCommand(
+    @NotNull(message = "Transfer must not be null")
+    @Valid
+    TransferAmountCommand transfer,
+    @NotNull(message = "ExecuteAt must not be null")
+    Instant executeAt,
+    Duration interval,
+    Duration jitter) {
+}
@@ -2,6 +2,7 @@ package com.dws.challenge.domain.command;
 
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import java.math.BigDecimal;
 
 /**
@@ -9,6 +10,8 @@ import java.math.BigDecimal;
  * with the below constraints:
  * Either of accountFromId or accountToId or both cannot be null.
  * The amount must be greater than zero.
+ * The optional currency is the one the amount is given in, the payer account currency if absent;
+ * amounts are converted to the currencies of both accounts.
  */
 public record TransferAmountCommand(
     @NotNull(message = "AccountFromId must not be null")
@@ -17,5 +20,11 @@ public record TransferAmountCommand(
     String accountToId,
     @NotNull(message = "Transfer amount must not be null")
     @DecimalMin(value = "0.0", inclusive = false, message = "Transfer amount must be greater than zero")
-    BigDecimal amount) {
+    BigDecimal amount,
+    @Pattern(regexp = "[A-Z]{3}", message = "must be an ISO 4217 currency code")
+    String currency) {
+
+  public TransferAmountCommand(String accountFromId, String accountToId, BigDecimal amount) {
+    this(accountFromId, accountToId, amount, null);
+  }
 }
\ No newline at end of file
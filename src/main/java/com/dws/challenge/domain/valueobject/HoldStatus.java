@@ -0,0 +1,7 @@
+package com.dws.challenge.domain.valueobject;
+
+public enum HoldStatus {
+  ACTIVE,
+  CAPTURED,
+  RELEASED
+}
@@ -0,0 +1,8 @@
+package com.dws.challenge.domain.valueobject;
+
+public enum ScheduledTransferStatus {
+  PENDING,
+  EXECUTED,
+  FAILED,
+  CANCELLED
+}
@@ -56,4 +56,34 @@ public class GlobalExceptionHandler {
         ex.getMessage(), Instant.now());
     return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
   }
+
+  /**
+   * Handles the {@code ScheduledTransferNotFoundException} occurred for an unknown or purged
+   * scheduled transfer.
+   *
+   * @param ex Throwable object containing exception details.
+   * @return ResponseEntity with status, status code, error details and timestamp.
+   */
+  @ExceptionHandler(ScheduledTransferNotFoundException.class)
+  public ResponseEntity<ErrorResponse> handleScheduledTransferNotFoundException(
+      ScheduledTransferNotFoundException ex) {
+
+    var errorResponse = new ErrorResponse(FAILURE, HttpStatus.NOT_FOUND.value(),
+        ex.getMessage(), Instant.now());
+    return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+  }
+
+  /**
+   * Handles the {@code HoldNotFoundException} occurred for an unknown, expired or settled hold.
+   *
+   * @param ex Throwable object containing exception details.
+   * @return ResponseEntity with status, status code, error details and timestamp.
+   */
+  @ExceptionHandler(HoldNotFoundException.class)
+  public ResponseEntity<ErrorResponse> handleHoldNotFoundException(HoldNotFoundException ex) {
+
+    var errorResponse = new ErrorResponse(FAILURE, HttpStatus.NOT_FOUND.value(),
+        ex.getMessage(), Instant.now());
+    return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.dws.challenge.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how often a repetitive event is logged: at most {@code permits} events per key and
+ * interval get through, the others are only counted and reported with the next event let through.
+ * Lock-free; the interval is a fixed window started by the first event of the key.
+ */
+public final class LogRateLimiter {
+
+  private static final class Window {
+    private final AtomicLong start = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong used = new AtomicLong();
+    private final LongAdder suppressed = new LongAdder();
+  }
+
+  private final int permits;
+  private final long intervalNanos;
+  private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+  public LogRateLimiter(int permits, Duration interval) {
+    this.permits = permits;
+    this.intervalNanos = interval.toNanos();
+  }
+
+  /**
+   * @param key kind of event, such as a rejection reason.
+   * @return -1 if the event must not be logged, otherwise the number of events of the key
+   *     suppressed since the previous one logged.
+   */
+  public long tryAcquire(String key) {
+    Window window = windows.computeIfAbsent(key, k -> new Window());
+    long now = System.nanoTime();
+    long start = window.start.get();
+    if (start == Long.MIN_VALUE || now - start >= intervalNanos) {
+      if (window.start.compareAndSet(start, now)) {
+        window.used.set(0);
+      }
+    }
+    if (window.used.incrementAndGet() > permits) {
+      window.suppressed.increment();
+      return -1;
+    }
+    return window.suppressed.sumThenReset();
+  }
+}
@@ -0,0 +1,16 @@
+package com.dws.challenge.repository;
+
+/**
+ * Monitors guarding the mutable state of accounts.
+ * Every component changing a balance, or state derived from it, synchronizes on the monitor of
+ * the account; components locking two accounts take them in lexicographical order of their ids.
+ */
+public final class AccountLocks {
+
+  private AccountLocks() {
+  }
+
+  public static Object lockFor(String accountId) {
+    return accountId.intern();
+  }
+}
@@ -2,6 +2,7 @@ package com.dws.challenge.repository;
 
 import com.dws.challenge.domain.Account;
 import com.dws.challenge.exception.DuplicateAccountIdException;
+import java.util.function.Consumer;
 
 public interface AccountsRepository {
 
@@ -9,5 +10,13 @@ public interface AccountsRepository {
 
   Account getAccount(String accountId);
 
+  /**
+   * Visits every account without blocking other operations for longer than one visit. Each visit
+   * holds the monitor of the account (see {@link AccountLocks}), so the account is seen between
+   * two changes. Accounts created or removed during the iteration may be missed.
+   * @param action called once per account.
+   */
+  void forEachAccount(Consumer<Account> action);
+
   void clearAccounts();
 }
\ No newline at end of file
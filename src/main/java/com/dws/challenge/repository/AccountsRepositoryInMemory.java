@@ -4,11 +4,14 @@ import com.dws.challenge.domain.Account;
 import com.dws.challenge.exception.DuplicateAccountIdException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@ConditionalOnProperty(name = "accounts.storage", havingValue = "in-memory", matchIfMissing = true)
 @Slf4j
 @RequiredArgsConstructor
 public class AccountsRepositoryInMemory implements AccountsRepository {
@@ -29,6 +32,15 @@ public class AccountsRepositoryInMemory implements AccountsRepository {
     return accounts.get(accountId);
   }
 
+  @Override
+  public void forEachAccount(Consumer<Account> action) {
+    for (Account account : accounts.values()) {
+      synchronized (AccountLocks.lockFor(account.getAccountId())) {
+        action.accept(account);
+      }
+    }
+  }
+
   @Override
   public void clearAccounts() {
     accounts.clear();
@@ -0,0 +1,73 @@
+package com.dws.challenge.repository.tiered;
+
+/**
+ * Count-min sketch of 4-bit counters estimating how often an account id was accessed recently.
+ * All counters are halved once the number of increments reaches ten times the tracked capacity,
+ * so old popularity fades out. Not thread safe, only used by the maintenance of
+ * {@link TieredAccountsRepository}.
+ */
+final class FrequencySketch {
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final int[] SEEDS = {0x97CB3127, 0xB7E15163, 0x9E3779B9, 0xC2B2AE35};
+
+  // 16 counters of 4 bits per long
+  private final long[] table;
+  private final int tableMask;
+  private final long sampleSize;
+  private long additions;
+
+  FrequencySketch(long capacity) {
+    int size = Integer.highestOneBit((int) Math.min(Math.max(capacity, 16), 1 << 30) - 1) << 1;
+    this.table = new long[size];
+    this.tableMask = size - 1;
+    this.sampleSize = 10 * Math.max(capacity, 16);
+  }
+
+  int frequency(String accountId) {
+    int hash = spread(accountId.hashCode());
+    int frequency = Integer.MAX_VALUE;
+    for (int row = 0; row < SEEDS.length; row++) {
+      frequency = Math.min(frequency, (int) ((table[index(hash, row)] >>> shift(hash, row)) & 0xF));
+    }
+    return frequency;
+  }
+
+  void increment(String accountId) {
+    int hash = spread(accountId.hashCode());
+    boolean added = false;
+    for (int row = 0; row < SEEDS.length; row++) {
+      int index = index(hash, row);
+      int shift = shift(hash, row);
+      if (((table[index] >>> shift) & 0xF) != 0xF) {
+        table[index] += 1L << shift;
+        added = true;
+      }
+    }
+    if (added && ++additions == sampleSize) {
+      reset();
+    }
+  }
+
+  private void reset() {
+    for (int i = 0; i < table.length; i++) {
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    additions /= 2;
+  }
+
+  private int index(int hash, int row) {
+    int h = (hash ^ SEEDS[row]) * SEEDS[row];
+    return (h ^ (h >>> 17)) & tableMask;
+  }
+
+  // counter of the row within the long, rows use distinct quarters of it
+  private static int shift(int hash, int row) {
+    return ((hash >>> (row << 3)) & 3) + (row << 2) << 2;
+  }
+
+  private static int spread(int hash) {
+    hash *= 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,246 @@
+package com.dws.challenge.repository.tiered;
+
+import com.dws.challenge.domain.Account;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Cold tier of {@link TieredAccountsRepository}: accounts stored in fixed size slots of a memory
+ * mapped file, which is itself an open addressing hash table keyed by account id, so no index is
+ * kept on heap.
+ * A slot holds an id of up to {@value #MAX_ID_BYTES} UTF-8 bytes and a balance whose unscaled value
+ * fits in {@value #MAX_UNSCALED_BYTES} bytes, plus its three letter currency code if any;
+ * {@link #write(Account)} refuses anything larger.
+ * Slots are never freed, an evicted account overwrites its previous slot.
+ */
+final class MappedAccountStore implements Closeable {
+
+  static final int MAX_ID_BYTES = 64;
+  static final int MAX_UNSCALED_BYTES = 16;
+  static final int CURRENCY_BYTES = 3;
+
+  // state, id length, id, unscaled length, unscaled value, scale, currency, padded to 96 bytes
+  private static final int SLOT_SIZE = 96;
+  private static final int ID_LENGTH_OFFSET = 1;
+  private static final int ID_OFFSET = 2;
+  private static final int UNSCALED_LENGTH_OFFSET = ID_OFFSET + MAX_ID_BYTES;
+  private static final int UNSCALED_OFFSET = UNSCALED_LENGTH_OFFSET + 1;
+  private static final int SCALE_OFFSET = UNSCALED_OFFSET + MAX_UNSCALED_BYTES;
+  // all zero for accounts without currency
+  private static final int CURRENCY_OFFSET = SCALE_OFFSET + Integer.BYTES;
+  private static final byte[] NO_CURRENCY = new byte[CURRENCY_BYTES];
+  private static final byte EMPTY = 0;
+  private static final byte USED = 1;
+
+  // slots per mapped segment, a mapping is limited to 2GB
+  private static final int SEGMENT_SHIFT = 20;
+  private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+  private final Path file;
+  private final long slots;
+  private final MappedByteBuffer[] segments;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private long used;
+
+  /**
+   * Creates an empty store, replacing any previous file.
+   * @param file backing file.
+   * @param capacity number of accounts the store must hold, the table is sized for a load of 3/4.
+   */
+  MappedAccountStore(Path file, long capacity) {
+    this.file = file;
+    this.slots = Math.max(1, capacity + capacity / 3);
+    int segmentCount = (int) ((slots + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+    this.segments = new MappedByteBuffer[segmentCount];
+    try {
+      Files.deleteIfExists(file);
+      try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw");
+           FileChannel channel = raf.getChannel()) {
+        raf.setLength(slots * SLOT_SIZE);
+        for (int i = 0; i < segmentCount; i++) {
+          long first = (long) i << SEGMENT_SHIFT;
+          long size = Math.min(1L << SEGMENT_SHIFT, slots - first) * SLOT_SIZE;
+          segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, first * SLOT_SIZE, size);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot map account store " + file, e);
+    }
+  }
+
+  boolean contains(String accountId) {
+    byte[] id = accountId.getBytes(StandardCharsets.UTF_8);
+    lock.readLock().lock();
+    try {
+      return id.length <= MAX_ID_BYTES && find(id) >= 0;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @param accountId id of the account.
+   * @return a new account object with the stored balance and currency, or null.
+   */
+  Account read(String accountId) {
+    byte[] id = accountId.getBytes(StandardCharsets.UTF_8);
+    if (id.length > MAX_ID_BYTES) {
+      return null;
+    }
+    lock.readLock().lock();
+    try {
+      long slot = find(id);
+      if (slot < 0) {
+        return null;
+      }
+      MappedByteBuffer segment = segment(slot);
+      int offset = offset(slot);
+      byte[] unscaled = new byte[segment.get(offset + UNSCALED_LENGTH_OFFSET)];
+      segment.get(offset + UNSCALED_OFFSET, unscaled);
+      int scale = segment.getInt(offset + SCALE_OFFSET);
+      byte[] currency = new byte[CURRENCY_BYTES];
+      segment.get(offset + CURRENCY_OFFSET, currency);
+      return new Account(accountId, new BigDecimal(new BigInteger(unscaled), scale),
+          currency[0] == 0 ? null : new String(currency, StandardCharsets.US_ASCII));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Stores the balance of an account, in its existing slot if any.
+   * @param account account to store.
+   * @return false if the account does not fit in a slot or the store is full.
+   */
+  boolean write(Account account) {
+    byte[] id = account.getAccountId().getBytes(StandardCharsets.UTF_8);
+    BigDecimal balance = account.getBalance();
+    byte[] unscaled = balance.unscaledValue().toByteArray();
+    byte[] currency = account.getCurrency() == null
+        ? NO_CURRENCY : account.getCurrency().getBytes(StandardCharsets.US_ASCII);
+    if (id.length > MAX_ID_BYTES || unscaled.length > MAX_UNSCALED_BYTES
+        || currency.length != CURRENCY_BYTES) {
+      return false;
+    }
+    lock.writeLock().lock();
+    try {
+      long slot = find(id);
+      if (slot < 0) {
+        if (used >= slots) {
+          return false;
+        }
+        slot = -slot - 1;
+        used++;
+      }
+      MappedByteBuffer segment = segment(slot);
+      int offset = offset(slot);
+      segment.put(offset + ID_LENGTH_OFFSET, (byte) id.length);
+      segment.put(offset + ID_OFFSET, id);
+      segment.put(offset + UNSCALED_LENGTH_OFFSET, (byte) unscaled.length);
+      segment.put(offset + UNSCALED_OFFSET, unscaled);
+      segment.putInt(offset + SCALE_OFFSET, balance.scale());
+      segment.put(offset + CURRENCY_OFFSET, currency);
+      segment.put(offset, USED);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Visits the id of every stored account. The store lock is held while reading a slot only, never
+   * while calling the action.
+   * @param action called once per stored account id.
+   */
+  void forEachAccountId(Consumer<String> action) {
+    for (long slot = 0; slot < slots; slot++) {
+      String accountId;
+      lock.readLock().lock();
+      try {
+        MappedByteBuffer segment = segment(slot);
+        int offset = offset(slot);
+        if (segment.get(offset) == EMPTY) {
+          continue;
+        }
+        byte[] id = new byte[segment.get(offset + ID_LENGTH_OFFSET)];
+        segment.get(offset + ID_OFFSET, id);
+        accountId = new String(id, StandardCharsets.UTF_8);
+      } finally {
+        lock.readLock().unlock();
+      }
+      action.accept(accountId);
+    }
+  }
+
+  void clear() {
+    lock.writeLock().lock();
+    try {
+      for (long slot = 0; slot < slots; slot++) {
+        segment(slot).put(offset(slot), EMPTY);
+      }
+      used = 0;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    // mappings are released when the buffers are collected
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Linear probing from the hash of the id.
+   * @return the slot holding the id, or {@code -(first empty slot) - 1}.
+   */
+  private long find(byte[] id) {
+    int hash = Arrays.hashCode(id) * 0x9E3779B9;
+    long slot = Math.floorMod(hash ^ (hash >>> 16), slots);
+    for (long probes = 0; probes < slots; probes++) {
+      MappedByteBuffer segment = segment(slot);
+      int offset = offset(slot);
+      if (segment.get(offset) == EMPTY) {
+        return -slot - 1;
+      }
+      if (matches(segment, offset, id)) {
+        return slot;
+      }
+      slot = slot + 1 == slots ? 0 : slot + 1;
+    }
+    return -slots - 1;
+  }
+
+  private static boolean matches(MappedByteBuffer segment, int offset, byte[] id) {
+    if (segment.get(offset + ID_LENGTH_OFFSET) != id.length) {
+      return false;
+    }
+    for (int i = 0; i < id.length; i++) {
+      if (segment.get(offset + ID_OFFSET + i) != id[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private MappedByteBuffer segment(long slot) {
+    return segments[(int) (slot >>> SEGMENT_SHIFT)];
+  }
+
+  private static int offset(long slot) {
+    return (int) (slot & SEGMENT_MASK) * SLOT_SIZE;
+  }
+}
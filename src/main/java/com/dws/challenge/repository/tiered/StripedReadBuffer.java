@@ -0,0 +1,85 @@
+package com.dws.challenge.repository.tiered;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Lossy buffer of the account ids read from the hot tier, after the read buffers of Caffeine: a
+ * thread records into one of several small rings picked from its id, and an access is dropped
+ * rather than waited for when its ring is full or another thread is recording into it. Recording
+ * is lock free; rings are drained by a single thread at a time, the maintenance of
+ * {@link TieredAccountsRepository}.
+ */
+final class StripedReadBuffer {
+
+  // power of two, between two and four rings per processor
+  private static final int RINGS =
+      Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 2;
+  static final int RING_SIZE = 32;
+  private static final int RING_MASK = RING_SIZE - 1;
+
+  private static final class Ring {
+    private final AtomicReferenceArray<String> slots = new AtomicReferenceArray<>(RING_SIZE);
+    private final AtomicLong writeIndex = new AtomicLong();
+    // only advanced by the draining thread
+    private volatile long readIndex;
+  }
+
+  private final Ring[] rings = new Ring[RINGS];
+
+  StripedReadBuffer() {
+    for (int i = 0; i < RINGS; i++) {
+      rings[i] = new Ring();
+    }
+  }
+
+  /**
+   * Records an access, unless the ring of the calling thread is full or contended.
+   * @return true if the ring is full, the caller should then have the buffer drained.
+   */
+  boolean record(String accountId) {
+    Ring ring = rings[ringIndex()];
+    long tail = ring.writeIndex.get();
+    long size = tail - ring.readIndex;
+    if (size >= RING_SIZE) {
+      return true;
+    }
+    if (ring.writeIndex.compareAndSet(tail, tail + 1)) {
+      ring.slots.lazySet((int) tail & RING_MASK, accountId);
+      return size + 1 >= RING_SIZE;
+    }
+    return false;
+  }
+
+  /**
+   * Hands the recorded accesses to the consumer, stopping at an access whose id is not written yet
+   * (it is drained next time).
+   */
+  void drainTo(Consumer<String> consumer) {
+    for (Ring ring : rings) {
+      long head = ring.readIndex;
+      long tail = ring.writeIndex.get();
+      for (; head < tail; head++) {
+        int index = (int) head & RING_MASK;
+        String accountId = ring.slots.get(index);
+        if (accountId == null) {
+          break;
+        }
+        ring.slots.lazySet(index, null);
+        consumer.accept(accountId);
+      }
+      ring.readIndex = head;
+    }
+  }
+
+  void clear() {
+    drainTo(accountId -> { });
+  }
+
+  private static int ringIndex() {
+    long id = Thread.currentThread().getId();
+    int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & (RINGS - 1);
+  }
+}
@@ -0,0 +1,265 @@
+package com.dws.challenge.repository.tiered;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.exception.DuplicateAccountIdException;
+import com.dws.challenge.logging.LogRateLimiter;
+import com.dws.challenge.repository.AccountLocks;
+import com.dws.challenge.repository.AccountsRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Accounts repository keeping a bounded set of hot accounts on heap and every other account in a
+ * {@link MappedAccountStore}, enabled with {@code accounts.storage=tiered}.
+ * A missing account is faulted in from the mapped store inside {@code computeIfAbsent}, so it is
+ * never loaded twice. Reads of hot accounts are recorded in a lossy {@link StripedReadBuffer}. A
+ * single maintenance thread replays the recorded accesses into a {@link WindowTinyLfuPolicy} and writes the accounts it evicts back to the mapped store, holding
+ * the account monitor (see {@link AccountLocks}) while doing so: an account is never evicted while
+ * a transfer changes it, and a transfer fetching it after taking the monitor faults in the balance
+ * written back. The maintenance thread takes one monitor at a time and callers never wait on it,
+ * so eviction cannot deadlock with the lock ordering of transfers. An account that cannot be
+ * written back stays on heap and tracked by the policy, and is retried on the next maintenance.
+ */
+@Repository
+@ConditionalOnProperty(name = "accounts.storage", havingValue = "tiered")
+@Slf4j
+public class TieredAccountsRepository implements AccountsRepository {
+
+  private final int hotCapacity;
+  private final Map<String, Account> hotAccounts = new ConcurrentHashMap<>();
+  private final MappedAccountStore coldAccounts;
+  private final WindowTinyLfuPolicy policy;
+  // accesses are dropped when the buffer is full, admissions never are
+  private final StripedReadBuffer accesses = new StripedReadBuffer();
+  private final Queue<String> admissions = new ConcurrentLinkedQueue<>();
+  private final ReentrantLock maintenanceLock = new ReentrantLock();
+  private final AtomicBoolean maintenanceScheduled = new AtomicBoolean();
+  private final ScheduledExecutorService maintenance;
+  private final LogRateLimiter pageOutFailureLogLimiter =
+      new LogRateLimiter(1, Duration.ofMinutes(1));
+
+  @Autowired
+  public TieredAccountsRepository(@Value("${accounts.tiered.hot-capacity:100000}") int hotCapacity,
+                                  @Value("${accounts.tiered.cold-capacity:1000000}") long coldCapacity,
+                                  @Value("${accounts.tiered.file:}") String file) {
+    this(hotCapacity, coldCapacity, file.isEmpty() ? temporaryFile() : Path.of(file));
+  }
+
+  TieredAccountsRepository(int hotCapacity, long coldCapacity, Path file) {
+    this.hotCapacity = hotCapacity;
+    this.coldAccounts = new MappedAccountStore(file, coldCapacity);
+    this.policy = new WindowTinyLfuPolicy(hotCapacity);
+    this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "tiered-accounts-maintenance");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.maintenance.scheduleWithFixedDelay(this::scheduledMaintenance, 100, 100,
+        TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void createAccount(Account account) throws DuplicateAccountIdException {
+    hotAccounts.compute(account.getAccountId(), (accountId, hotAccount) -> {
+      if (hotAccount != null || coldAccounts.contains(accountId)) {
+        throw new DuplicateAccountIdException("Account id " + accountId + " already exists!");
+      }
+      return account;
+    });
+    admit(account.getAccountId());
+  }
+
+  @Override
+  public Account getAccount(String accountId) {
+    Account account = hotAccounts.get(accountId);
+    if (account != null) {
+      if (accesses.record(accountId)) {
+        scheduleMaintenance();
+      }
+      return account;
+    }
+    account = hotAccounts.computeIfAbsent(accountId, coldAccounts::read);
+    if (account != null) {
+      admit(accountId);
+    }
+    return account;
+  }
+
+  /**
+   * Visits the hot accounts, then the cold ones not visited yet, reading those from the mapped
+   * store without faulting them in. An account moving between tiers meanwhile is visited once: an
+   * account evicted after the first pass was already visited, an account faulted in is read from
+   * the hot tier by the second.
+   */
+  @Override
+  public void forEachAccount(Consumer<Account> action) {
+    Set<String> visited = new HashSet<>();
+    for (String accountId : hotAccounts.keySet()) {
+      synchronized (AccountLocks.lockFor(accountId)) {
+        Account account = hotAccounts.get(accountId);
+        if (account != null) {
+          visited.add(accountId);
+          action.accept(account);
+        }
+      }
+    }
+    coldAccounts.forEachAccountId(accountId -> {
+      if (visited.contains(accountId)) {
+        return;
+      }
+      synchronized (AccountLocks.lockFor(accountId)) {
+        Account account = hotAccounts.get(accountId);
+        action.accept(account != null ? account : coldAccounts.read(accountId));
+      }
+    });
+  }
+
+  @Override
+  public void clearAccounts() {
+    maintenanceLock.lock();
+    try {
+      hotAccounts.clear();
+      coldAccounts.clear();
+      accesses.clear();
+      admissions.clear();
+      policy.clear();
+    } finally {
+      maintenanceLock.unlock();
+    }
+  }
+
+  public int getHotAccountCount() {
+    return hotAccounts.size();
+  }
+
+  /**
+   * Replays pending accesses and evicts down to the hot capacity on the calling thread, which must
+   * not hold any account monitor.
+   */
+  void cleanUp() {
+    maintenanceLock.lock();
+    try {
+      for (String accountId; (accountId = admissions.poll()) != null; ) {
+        policy.onInsert(accountId);
+      }
+      accesses.drainTo(policy::onAccess);
+      List<String> unwritable = new ArrayList<>();
+      for (String victim; (victim = policy.nextVictim()) != null; ) {
+        if (!evict(victim)) {
+          unwritable.add(victim);
+        }
+      }
+      if (!unwritable.isEmpty()) {
+        // tracked again, so the hot tier stays bounded by the accounts the policy knows about
+        unwritable.forEach(policy::onInsert);
+        logPageOutFailure(unwritable.size());
+      }
+    } finally {
+      maintenanceLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() throws IOException {
+    maintenance.shutdownNow();
+    coldAccounts.close();
+  }
+
+  int getTrackedAccountCount() {
+    maintenanceLock.lock();
+    try {
+      return policy.size();
+    } finally {
+      maintenanceLock.unlock();
+    }
+  }
+
+  /**
+   * Writes an account back to the mapped store and drops it from the hot tier.
+   * @return false if the account is kept on heap, the mapped store being full or the account not
+   *     fitting in a slot (see {@link MappedAccountStore}).
+   */
+  private boolean evict(String accountId) {
+    synchronized (AccountLocks.lockFor(accountId)) {
+      Account account = hotAccounts.get(accountId);
+      if (account == null) {
+        return true;
+      }
+      if (!coldAccounts.write(account)) {
+        return false;
+      }
+      hotAccounts.remove(accountId);
+      return true;
+    }
+  }
+
+  private void logPageOutFailure(int accounts) {
+    long suppressed = pageOutFailureLogLimiter.tryAcquire("page-out");
+    if (suppressed >= 0) {
+      log.atWarn().setMessage("accounts.page-out.failed")
+          .addKeyValue("accounts", accounts)
+          .addKeyValue("hotAccounts", hotAccounts.size())
+          .addKeyValue("hotCapacity", hotCapacity)
+          .addKeyValue("suppressed", suppressed)
+          .log();
+    }
+  }
+
+  private void admit(String accountId) {
+    admissions.add(accountId);
+    if (hotAccounts.size() > hotCapacity) {
+      scheduleMaintenance();
+    }
+  }
+
+  private void scheduleMaintenance() {
+    if (maintenanceScheduled.compareAndSet(false, true)) {
+      try {
+        maintenance.execute(this::scheduledMaintenance);
+      } catch (RejectedExecutionException e) {
+        log.debug("Tiered accounts maintenance is shut down.");
+      }
+    }
+  }
+
+  private void scheduledMaintenance() {
+    maintenanceScheduled.set(false);
+    try {
+      cleanUp();
+    } catch (RuntimeException e) {
+      log.error("Tiered accounts maintenance failed.", e);
+    }
+  }
+
+  private static Path temporaryFile() {
+    try {
+      return Files.createTempFile("accounts", ".cold");
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot create the cold accounts file", e);
+    }
+  }
+}
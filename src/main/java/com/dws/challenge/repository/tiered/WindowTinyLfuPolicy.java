@@ -0,0 +1,95 @@
+package com.dws.challenge.repository.tiered;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Chooses which accounts leave the hot tier, after the W-TinyLFU policy: new accounts enter a small
+ * LRU window; an account leaving the window only displaces the least recently used account of the
+ * main area (a segmented LRU of probation and protected accounts) if it was accessed more often
+ * according to a {@link FrequencySketch}.
+ * Not thread safe, only used by the maintenance of {@link TieredAccountsRepository}.
+ */
+final class WindowTinyLfuPolicy {
+
+  private final int windowCapacity;
+  private final int mainCapacity;
+  private final int protectedCapacity;
+  private final FrequencySketch sketch;
+  // access ordered LRUs of account ids, eldest first
+  private final LinkedHashMap<String, Boolean> window = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<String, Boolean> probation = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<String, Boolean> protectedArea = new LinkedHashMap<>(16, 0.75f, true);
+
+  WindowTinyLfuPolicy(int capacity) {
+    this.windowCapacity = Math.max(1, capacity / 100);
+    this.mainCapacity = Math.max(1, capacity - windowCapacity);
+    this.protectedCapacity = mainCapacity * 4 / 5;
+    this.sketch = new FrequencySketch(capacity);
+  }
+
+  void onInsert(String accountId) {
+    sketch.increment(accountId);
+    if (!contains(accountId)) {
+      window.put(accountId, Boolean.TRUE);
+    }
+  }
+
+  void onAccess(String accountId) {
+    sketch.increment(accountId);
+    if (window.get(accountId) != null || protectedArea.get(accountId) != null) {
+      return;
+    }
+    if (probation.remove(accountId) != null) {
+      protectedArea.put(accountId, Boolean.TRUE);
+      if (protectedArea.size() > protectedCapacity) {
+        probation.put(removeEldest(protectedArea), Boolean.TRUE);
+      }
+    }
+  }
+
+  /**
+   * Picks the next account to evict and stops tracking it.
+   * @return the account id, or null while the hot tier is within capacity.
+   */
+  String nextVictim() {
+    while (window.size() > windowCapacity) {
+      String candidate = removeEldest(window);
+      if (probation.size() + protectedArea.size() < mainCapacity) {
+        probation.put(candidate, Boolean.TRUE);
+        continue;
+      }
+      LinkedHashMap<String, Boolean> victimArea = probation.isEmpty() ? protectedArea : probation;
+      String victim = victimArea.keySet().iterator().next();
+      if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+        victimArea.remove(victim);
+        probation.put(candidate, Boolean.TRUE);
+        return victim;
+      }
+      return candidate;
+    }
+    return null;
+  }
+
+  void clear() {
+    window.clear();
+    probation.clear();
+    protectedArea.clear();
+  }
+
+  int size() {
+    return window.size() + probation.size() + protectedArea.size();
+  }
+
+  private boolean contains(String accountId) {
+    return window.containsKey(accountId) || probation.containsKey(accountId)
+        || protectedArea.containsKey(accountId);
+  }
+
+  private static String removeEldest(LinkedHashMap<String, Boolean> area) {
+    Iterator<String> iterator = area.keySet().iterator();
+    String eldest = iterator.next();
+    iterator.remove();
+    return eldest;
+  }
+}
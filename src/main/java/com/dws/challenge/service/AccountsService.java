@@ -1,15 +1,28 @@
 package com.dws.challenge.service;
 
 import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.aggregate.AccountBalanceResponse;
+import com.dws.challenge.domain.aggregate.LedgerTotalsResponse;
 import com.dws.challenge.domain.aggregate.TransferResponse;
 import com.dws.challenge.domain.command.TransferAmountCommand;
 import com.dws.challenge.domain.valueobject.TransferStatus;
 import com.dws.challenge.exception.AccountNotFoundException;
 import com.dws.challenge.exception.TransferAmountException;
+import com.dws.challenge.logging.LogRateLimiter;
+import com.dws.challenge.repository.AccountLocks;
 import com.dws.challenge.repository.AccountsRepository;
+import com.dws.challenge.service.audit.LedgerAggregates;
+import com.dws.challenge.service.fx.FxRateService;
+import com.dws.challenge.service.fx.FxRates;
+import com.dws.challenge.service.holds.AccountHolds;
+import com.dws.challenge.service.hotspot.HotAccountCredits;
+import com.dws.challenge.service.hotspot.HotAccountTracker;
+import com.dws.challenge.service.streaming.BalanceChangePublisher;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Objects;
 import lombok.Getter;
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,17 +35,94 @@ public class AccountsService {
 
   private final AccountsRepository accountsRepository;
   private final NotificationService notificationService;
+  private final HotAccountTracker hotAccountTracker;
+  private final HotAccountCredits hotAccountCredits;
+  private final AccountHolds accountHolds;
+  private final BalanceChangePublisher balanceChangePublisher;
+  private final LedgerAggregates ledgerAggregates;
+  private final FxRateService fxRateService;
+  // per rejection reason, at most 10 rejections logged per second
+  @Getter(AccessLevel.NONE)
+  private final LogRateLimiter rejectionLogLimiter = new LogRateLimiter(10, Duration.ofSeconds(1));
 
   public void createAccount(Account account) {
-    this.accountsRepository.createAccount(account);
+    if (account.getCurrency() != null && !fxRateService.getRates().supports(account.getCurrency())) {
+      throw new IllegalArgumentException("Unsupported currency: " + account.getCurrency() + ".");
+    }
+    ledgerAggregates.beginChange(account.getAccountId());
+    try {
+      this.accountsRepository.createAccount(account);
+      ledgerAggregates.recordAccountCreated(account.getAccountId(), account.getCurrency(),
+          account.getBalance());
+    } finally {
+      ledgerAggregates.endChange(account.getAccountId());
+    }
+  }
+
+  /**
+   * Removes every account and resets the pending hot account credits, the holds and the ledger
+   * aggregates along.
+   */
+  public void clearAccounts() {
+    this.accountsRepository.clearAccounts();
+    hotAccountCredits.clear();
+    accountHolds.clear();
+    ledgerAggregates.reset();
   }
 
+  /**
+   * Returns the book balance of all accounts per currency and the number of transfers, in
+   * constant time.
+   * @return ledger totals.
+   */
+  public LedgerTotalsResponse getLedgerTotals() {
+    return new LedgerTotalsResponse(ledgerAggregates.getTotalBalances(),
+        ledgerAggregates.getTransferCount());
+  }
+
+  /**
+   * Returns the account with its balance including the credits still pending in the hot account
+   * lane.
+   * @param accountId id of the account.
+   * @return the account, or null if it does not exist.
+   */
   public Account getAccount(String accountId) {
-    return this.accountsRepository.getAccount(accountId);
+    Account account = this.accountsRepository.getAccount(accountId);
+    if (account != null && hotAccountCredits.hasPending(accountId)) {
+      synchronized (getLockObject(accountId)) {
+        // read again under the monitor, a tiered repository may have paged the account out
+        account = this.accountsRepository.getAccount(accountId);
+        if (account == null) {
+          // cleared meanwhile
+          return null;
+        }
+        hotAccountCredits.fold(account);
+        balanceChangePublisher.publish(account);
+      }
+    }
+    return account;
+  }
+
+  /**
+   * Returns the ledger balance of an account and the part of it not reserved by holds.
+   * @param accountId id of the account.
+   * @return ledger and available balance of the account.
+   */
+  public AccountBalanceResponse getAccountBalance(String accountId) {
+    synchronized (getLockObject(accountId)) {
+      Account account = validateAccount(getAccount(accountId), accountId);
+      return new AccountBalanceResponse(accountId, account.getBalance(), availableBalance(account));
+    }
   }
 
   /**
    * Performs transfer of given amount from payer account to payee account.
+   * Transfers to an account detected as hot only lock the payer, and credit the payee through
+   * {@link HotAccountCredits}. Balance changes are published to {@link BalanceChangePublisher}
+   * under the account monitors; hot payees once
+   * {@link com.dws.challenge.service.streaming.PendingCreditsPublisher} folds their credits.
+   * Amounts in another currency than an account's are converted with the current {@link FxRates}
+   * snapshot, the same one for both accounts.
    * @param command contains accountId of payer and payee bank accounts.
    * @return Transfer response DTO if transfer was successful.
    */
@@ -41,57 +131,148 @@ public class AccountsService {
     validateIfSameAccount(command.accountFromId(),command.accountToId());
 
     BigDecimal amount = command.amount();
+    FxRates rates = fxRateService.getRates();
     String payerAccountId = command.accountFromId();
     String payeeAccountId = command.accountToId();
-    String firstLockAccNum = payerAccountId.compareTo(payeeAccountId) < 0 ? payerAccountId : payeeAccountId;
-    String secondLockAccNum = payerAccountId.compareTo(payeeAccountId) < 0 ? payeeAccountId : payerAccountId;
+    hotAccountTracker.record(payerAccountId, payeeAccountId);
 
-    synchronized (getLockObject(firstLockAccNum)) {
-      synchronized (getLockObject(secondLockAccNum)) {
+    if (hotAccountTracker.isHot(payeeAccountId)) {
+      transferToHotAccount(payerAccountId, payeeAccountId, amount, command.currency(), rates);
+    } else {
+      String firstLockAccNum = payerAccountId.compareTo(payeeAccountId) < 0 ? payerAccountId : payeeAccountId;
+      String secondLockAccNum = payerAccountId.compareTo(payeeAccountId) < 0 ? payeeAccountId : payerAccountId;
 
-        Account payer = validateAccount(getAccount(payerAccountId),payerAccountId);
-        Account payee = validateAccount(getAccount(payeeAccountId),payeeAccountId);
+      synchronized (getLockObject(firstLockAccNum)) {
+        synchronized (getLockObject(secondLockAccNum)) {
 
-        if (payer.getBalance().compareTo(amount) < 0) {
-          String message = String.format("Insufficient fund balance in account number : %s.",
-              payer.getAccountId());
-          log.error(message);
-          throw new TransferAmountException(message);
-        }
+          Account payer = validateAccount(getAccount(payerAccountId),payerAccountId);
+          Account payee = validateAccount(getAccount(payeeAccountId),payeeAccountId);
+          String amountCurrency = amountCurrency(command.currency(), payer);
+          BigDecimal debit = convert(rates, amount, amountCurrency, payer.getCurrency());
+          BigDecimal credit = convert(rates, amount, amountCurrency, payee.getCurrency());
 
-        payer.setBalance(payer.getBalance().subtract(amount));
-        payee.setBalance(payee.getBalance().add(amount));
+          ledgerAggregates.beginChange(payerAccountId, payeeAccountId);
+          try {
+            withdraw(payer, debit);
+            payee.setBalance(payee.getBalance().add(credit));
+            ledgerAggregates.recordTransfer(payerAccountId, payer.getCurrency(), debit,
+                payeeAccountId, payee.getCurrency(), credit);
+          } finally {
+            ledgerAggregates.endChange(payerAccountId, payeeAccountId);
+          }
+          balanceChangePublisher.publish(payer);
+          balanceChangePublisher.publish(payee);
 
-        sendTransferNotification(payer,payee);
+          sendTransferNotification(payer,payee);
+        }
       }
     }
-      log.info("Amount transfer from {} to {} of amount: {} was successful.",
-          command.accountFromId(),command.accountToId(),command.amount());
+      log.atDebug().setMessage("transfer.completed")
+          .addKeyValue("from", payerAccountId)
+          .addKeyValue("to", payeeAccountId)
+          .addKeyValue("amount", amount)
+          .addKeyValue("currency", command.currency())
+          .log();
       return new TransferResponse(TransferStatus.SUCCESS, command.amount());
   }
 
+  private void transferToHotAccount(String payerAccountId, String payeeAccountId,
+                                    BigDecimal amount, String currency, FxRates rates) {
+    synchronized (getLockObject(payerAccountId)) {
+      Account payer = validateAccount(getAccount(payerAccountId),payerAccountId);
+      // the payee monitor is not taken, its pending credits are folded by its next holder
+      Account payee = validateAccount(accountsRepository.getAccount(payeeAccountId),payeeAccountId);
+      String amountCurrency = amountCurrency(currency, payer);
+      BigDecimal debit = convert(rates, amount, amountCurrency, payer.getCurrency());
+      // the currency of an account never changes, reading it without the payee monitor is safe
+      BigDecimal credit = convert(rates, amount, amountCurrency, payee.getCurrency());
+
+      ledgerAggregates.beginChange(payerAccountId, payeeAccountId);
+      try {
+        withdraw(payer, debit);
+        hotAccountCredits.credit(payeeAccountId, credit);
+        ledgerAggregates.recordTransfer(payerAccountId, payer.getCurrency(), debit,
+            payeeAccountId, payee.getCurrency(), credit);
+      } finally {
+        ledgerAggregates.endChange(payerAccountId, payeeAccountId);
+      }
+      balanceChangePublisher.publish(payer);
+      // the payee is published once its pending credits are folded, see PendingCreditsPublisher
+      balanceChangePublisher.publishPendingCredits(payeeAccountId);
+
+      sendTransferNotification(payer,payee);
+    }
+  }
+
+  // funds reserved by holds cannot be transferred, the caller holds the payer monitor
+  private void withdraw(Account payer, BigDecimal amount) {
+    if (availableBalance(payer).compareTo(amount) < 0) {
+      logRejection("insufficient_funds", payer.getAccountId());
+      throw new TransferAmountException(String.format(
+          "Insufficient fund balance in account number : %s.", payer.getAccountId()));
+    }
+    payer.setBalance(payer.getBalance().subtract(amount));
+  }
+
+  private static String amountCurrency(String commandCurrency, Account payer) {
+    return commandCurrency != null ? commandCurrency : payer.getCurrency();
+  }
+
+  // amounts already in the account currency are taken as is, a null currency being the base one
+  private static BigDecimal convert(FxRates rates, BigDecimal amount, String amountCurrency,
+                                    String accountCurrency) {
+    if (Objects.equals(amountCurrency, accountCurrency)
+        || rates.isSameCurrency(amountCurrency, accountCurrency)) {
+      return amount;
+    }
+    BigDecimal converted = rates.convert(amount, amountCurrency, accountCurrency);
+    if (converted.signum() <= 0) {
+      throw new IllegalArgumentException(
+          "Transfer amount is below the minor unit of "
+              + (accountCurrency != null ? accountCurrency : rates.getBaseCurrency()) + ".");
+    }
+    return converted;
+  }
+
+  private BigDecimal availableBalance(Account account) {
+    if (!accountHolds.hasHolds(account.getAccountId())) {
+      return account.getBalance();
+    }
+    return account.getBalance().subtract(accountHolds.heldAmount(account.getAccountId()));
+  }
+
   private void validateIfSameAccount(String payerAccountId, String payeeAccountId) {
     if (Objects.equals(payerAccountId,payeeAccountId)) {
-      String message = "Transfer between same account is not allowed.";
-      log.error(message);
-      throw new IllegalArgumentException(message);
+      logRejection("same_account", payerAccountId);
+      throw new IllegalArgumentException("Transfer between same account is not allowed.");
     }
 
   }
 
   private Object getLockObject(String accountNumber) {
-    return accountNumber.intern();
+    return AccountLocks.lockFor(accountNumber);
   }
 
   private Account validateAccount(Account account,String accountId) {
     if (Objects.isNull(account)) {
-      var message = String.format("Account with id: %s not found.",accountId);
-      log.error(message);
-      throw new AccountNotFoundException(message);
+      logRejection("account_not_found", accountId);
+      throw new AccountNotFoundException(String.format("Account with id: %s not found.",accountId));
     }
     return account;
   }
 
+  // business rejections are expected under load, so they are logged as sampled structured events
+  private void logRejection(String reason, String accountId) {
+    long suppressed = rejectionLogLimiter.tryAcquire(reason);
+    if (suppressed >= 0) {
+      log.atWarn().setMessage("transfer.rejected")
+          .addKeyValue("reason", reason)
+          .addKeyValue("accountId", accountId)
+          .addKeyValue("suppressed", suppressed)
+          .log();
+    }
+  }
+
   private void sendTransferNotification(Account accountFrom, Account accountTo) {
     String payerDescription = "Successfully transferred account to: "+ accountFrom.getAccountId();
     String payeeDescription = "Amount received from account: "+ accountFrom.getAccountId();
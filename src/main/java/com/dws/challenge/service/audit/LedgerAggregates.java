@@ -0,0 +1,181 @@
+package com.dws.challenge.service.audit;
+
+import com.dws.challenge.service.hotspot.StripedDecimalAdder;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Incrementally maintained ledger totals: the book balance of all accounts per currency, its split
+ * over a fixed number of shards of the account ids, and the number of transfers. Reading a total
+ * is constant time; updates go to striped cells and never contend on a single location.
+ * Accounts without a currency are counted in the base currency.
+ * Every change of a shard is bracketed by {@link #beginChange} and {@link #endChange}, which the
+ * {@link LedgerVerifier} uses to tell whether a shard changed while it was being scanned. Those
+ * counters are striped too, a hot account changing its shard on every transfer.
+ */
+@Component
+public class LedgerAggregates {
+
+  public static final int SHARDS = 64;
+
+  private final String baseCurrency;
+  // per currency, created on first use
+  private final Map<String, StripedDecimalAdder> totalBalances = new ConcurrentHashMap<>();
+  private final Map<String, StripedDecimalAdder[]> shardBalances = new ConcurrentHashMap<>();
+  private final LongAdder transfers = new LongAdder();
+  private final LongAdder[] startedChanges = new LongAdder[SHARDS];
+  private final LongAdder[] finishedChanges = new LongAdder[SHARDS];
+
+  public LedgerAggregates(@Value("${accounts.fx.base-currency:EUR}") String baseCurrency) {
+    this.baseCurrency = baseCurrency;
+    for (int shard = 0; shard < SHARDS; shard++) {
+      startedChanges[shard] = new LongAdder();
+      finishedChanges[shard] = new LongAdder();
+    }
+  }
+
+  public static int shardOf(String accountId) {
+    int hash = accountId.hashCode() * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & (SHARDS - 1);
+  }
+
+  /**
+   * Marks the shard of an account as changing. Must be paired with {@link #endChange(String)}.
+   */
+  public void beginChange(String accountId) {
+    startedChanges[shardOf(accountId)].increment();
+  }
+
+  public void endChange(String accountId) {
+    finishedChanges[shardOf(accountId)].increment();
+  }
+
+  /**
+   * Marks the shards of two accounts as changing. Must be paired with
+   * {@link #endChange(String, String)}.
+   */
+  public void beginChange(String firstAccountId, String secondAccountId) {
+    startedChanges[shardOf(firstAccountId)].increment();
+    startedChanges[shardOf(secondAccountId)].increment();
+  }
+
+  public void endChange(String firstAccountId, String secondAccountId) {
+    finishedChanges[shardOf(firstAccountId)].increment();
+    finishedChanges[shardOf(secondAccountId)].increment();
+  }
+
+  /**
+   * @param currency currency of an account, null for the base currency.
+   * @return the currency the balance of the account is counted in.
+   */
+  public String currencyOf(String currency) {
+    return currency != null ? currency : baseCurrency;
+  }
+
+  /**
+   * Records the initial balance of a new account, within a change of its shard.
+   * @param currency currency of the account, null for the base currency.
+   */
+  public void recordAccountCreated(String accountId, String currency, BigDecimal balance) {
+    String balanceCurrency = currencyOf(currency);
+    totalBalance(balanceCurrency).add(balance);
+    shardBalances(balanceCurrency)[shardOf(accountId)].add(balance);
+  }
+
+  /**
+   * Records a transfer, within a change of the shards of both accounts. A cross-currency transfer
+   * moves the debited amount out of the total of the payer currency and the credited amount into
+   * the total of the payee currency; totals of a single currency only change on account creation.
+   * @param payerCurrency currency of the payer account, null for the base currency.
+   * @param payeeCurrency currency of the payee account, null for the base currency.
+   */
+  public void recordTransfer(String payerAccountId, String payerCurrency, BigDecimal debit,
+                             String payeeAccountId, String payeeCurrency, BigDecimal credit) {
+    String debitCurrency = currencyOf(payerCurrency);
+    String creditCurrency = currencyOf(payeeCurrency);
+    int payerShard = shardOf(payerAccountId);
+    int payeeShard = shardOf(payeeAccountId);
+    boolean moved = !debitCurrency.equals(creditCurrency) || debit.compareTo(credit) != 0;
+    if (payerShard != payeeShard || moved) {
+      shardBalances(debitCurrency)[payerShard].add(debit.negate());
+      shardBalances(creditCurrency)[payeeShard].add(credit);
+    }
+    if (moved) {
+      totalBalance(debitCurrency).add(debit.negate());
+      totalBalance(creditCurrency).add(credit);
+    }
+    transfers.increment();
+  }
+
+  /**
+   * @return the book balance of all accounts per currency, sorted by currency code.
+   */
+  public Map<String, BigDecimal> getTotalBalances() {
+    Map<String, BigDecimal> balances = new TreeMap<>();
+    totalBalances.forEach((currency, balance) -> balances.put(currency, balance.sum()));
+    return balances;
+  }
+
+  /**
+   * @return the balance of a shard per currency.
+   */
+  public Map<String, BigDecimal> getShardBalances(int shard) {
+    Map<String, BigDecimal> balances = new TreeMap<>();
+    shardBalances.forEach((currency, shards) -> balances.put(currency, shards[shard].sum()));
+    return balances;
+  }
+
+  public long getTransferCount() {
+    return transfers.sum();
+  }
+
+  /**
+   * Sums of striped counters are not atomic snapshots, so read {@link #finishedChanges} first:
+   * every change it counts is then counted here too, and equal counts mean none was in flight.
+   */
+  long startedChanges(int shard) {
+    return startedChanges[shard].sum();
+  }
+
+  long finishedChanges(int shard) {
+    return finishedChanges[shard].sum();
+  }
+
+  /**
+   * Forgets every total, for use when the repository is cleared.
+   */
+  public void reset() {
+    totalBalances.values().forEach(StripedDecimalAdder::sumThenReset);
+    for (StripedDecimalAdder[] shards : shardBalances.values()) {
+      for (StripedDecimalAdder shardBalance : shards) {
+        shardBalance.sumThenReset();
+      }
+    }
+    transfers.reset();
+  }
+
+  private StripedDecimalAdder totalBalance(String currency) {
+    StripedDecimalAdder balance = totalBalances.get(currency);
+    return balance != null
+        ? balance : totalBalances.computeIfAbsent(currency, c -> new StripedDecimalAdder());
+  }
+
+  private StripedDecimalAdder[] shardBalances(String currency) {
+    StripedDecimalAdder[] shards = shardBalances.get(currency);
+    if (shards != null) {
+      return shards;
+    }
+    return shardBalances.computeIfAbsent(currency, c -> {
+      StripedDecimalAdder[] created = new StripedDecimalAdder[SHARDS];
+      for (int shard = 0; shard < SHARDS; shard++) {
+        created[shard] = new StripedDecimalAdder();
+      }
+      return created;
+    });
+  }
+}
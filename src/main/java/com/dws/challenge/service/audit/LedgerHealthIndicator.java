@@ -0,0 +1,34 @@
+package com.dws.challenge.service.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health contributor {@code ledger}: down when the last reconciliation of the ledger aggregates
+ * found a drift, unknown before the first one.
+ */
+@Component("ledger")
+@RequiredArgsConstructor
+public class LedgerHealthIndicator implements HealthIndicator {
+
+  private final LedgerVerifier ledgerVerifier;
+
+  @Override
+  public Health health() {
+    LedgerReport report = ledgerVerifier.getLastReport();
+    if (report == null) {
+      return Health.unknown().build();
+    }
+    Health.Builder builder = report.hasDrift() ? Health.down() : Health.up();
+    return builder
+        .withDetail("checkedAt", report.checkedAt())
+        .withDetail("verifiedShards", report.verifiedShards())
+        .withDetail("unverifiedShards", report.unverifiedShards())
+        .withDetail("drifts", report.drifts())
+        .withDetail("totalBalances", report.totalBalances())
+        .withDetail("transferCount", report.transferCount())
+        .build();
+  }
+}
@@ -0,0 +1,33 @@
+package com.dws.challenge.service.audit;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a reconciliation of the {@link LedgerAggregates} against a scan of the accounts.
+ * @param checkedAt end of the scan.
+ * @param verifiedShards shards whose scanned balance matched their aggregate.
+ * @param unverifiedShards shards changed during the scan, retried by the next one.
+ * @param drifts balances of a shard in a currency that differ from their aggregate.
+ * @param totalBalances book balance of all accounts per currency, from the aggregates.
+ * @param transferCount number of transfers, from the aggregates.
+ */
+public record LedgerReport(Instant checkedAt, int verifiedShards, int unverifiedShards,
+                           List<ShardDrift> drifts, Map<String, BigDecimal> totalBalances,
+                           long transferCount) {
+
+  /**
+   * @param shard shard of the account ids.
+   * @param currency currency of the balances.
+   * @param expected balance of the shard according to its aggregate.
+   * @param actual balance of the shard according to the scan.
+   */
+  public record ShardDrift(int shard, String currency, BigDecimal expected, BigDecimal actual) {
+  }
+
+  public boolean hasDrift() {
+    return !drifts.isEmpty();
+  }
+}
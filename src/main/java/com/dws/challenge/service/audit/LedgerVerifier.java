@@ -0,0 +1,143 @@
+package com.dws.challenge.service.audit;
+
+import com.dws.challenge.repository.AccountsRepository;
+import com.dws.challenge.service.audit.LedgerReport.ShardDrift;
+import com.dws.challenge.service.hotspot.HotAccountCredits;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically reconciles the {@link LedgerAggregates} with a scan of the accounts, without
+ * stopping transfers: each account is read under its own monitor only, including the credits
+ * still pending in the hot account lane. Balances are compared per currency.
+ * A shard is compared only if no change of it was in flight when the scan started and none started
+ * before its aggregate was read back, so a match or a drift is never an artifact of concurrent
+ * transfers. Shards changed meanwhile are reported as unverified and compared again next time.
+ */
+@Component
+@Slf4j
+public class LedgerVerifier {
+
+  private final AccountsRepository accountsRepository;
+  private final HotAccountCredits hotAccountCredits;
+  private final LedgerAggregates ledgerAggregates;
+  private final ScheduledExecutorService scheduler;
+  private volatile LedgerReport lastReport;
+
+  public LedgerVerifier(AccountsRepository accountsRepository,
+                        HotAccountCredits hotAccountCredits,
+                        LedgerAggregates ledgerAggregates,
+                        @Value("${accounts.audit.enabled:true}") boolean enabled,
+                        @Value("${accounts.audit.interval:PT1M}") Duration interval) {
+    this.accountsRepository = accountsRepository;
+    this.hotAccountCredits = hotAccountCredits;
+    this.ledgerAggregates = ledgerAggregates;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ledger-verifier");
+      thread.setDaemon(true);
+      return thread;
+    });
+    if (enabled) {
+      this.scheduler.scheduleWithFixedDelay(this::scheduledVerify, interval.toMillis(),
+          interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * @return the report of the last reconciliation, or null before the first one.
+   */
+  public LedgerReport getLastReport() {
+    return lastReport;
+  }
+
+  /**
+   * Scans the accounts and compares every quiet shard with its aggregate.
+   * @return the reconciliation report, also kept as the last report.
+   */
+  public LedgerReport verify() {
+    int shards = LedgerAggregates.SHARDS;
+    long[] started = new long[shards];
+    boolean[] quiet = new boolean[shards];
+    for (int shard = 0; shard < shards; shard++) {
+      // finished first: the counters are striped sums, see LedgerAggregates#startedChanges
+      long finished = ledgerAggregates.finishedChanges(shard);
+      started[shard] = ledgerAggregates.startedChanges(shard);
+      quiet[shard] = finished == started[shard];
+    }
+
+    // shard balances per currency
+    Map<String, BigDecimal[]> scanned = new HashMap<>();
+    accountsRepository.forEachAccount(account -> {
+      BigDecimal[] balances = scanned.computeIfAbsent(
+          ledgerAggregates.currencyOf(account.getCurrency()), currency -> {
+            BigDecimal[] zeros = new BigDecimal[shards];
+            Arrays.fill(zeros, BigDecimal.ZERO);
+            return zeros;
+          });
+      int shard = LedgerAggregates.shardOf(account.getAccountId());
+      balances[shard] = balances[shard].add(account.getBalance())
+          .add(hotAccountCredits.pending(account.getAccountId()));
+    });
+
+    int verified = 0;
+    int unverified = 0;
+    List<ShardDrift> drifts = new ArrayList<>();
+    for (int shard = 0; shard < shards; shard++) {
+      Map<String, BigDecimal> expected = ledgerAggregates.getShardBalances(shard);
+      if (!quiet[shard] || ledgerAggregates.startedChanges(shard) != started[shard]) {
+        unverified++;
+        continue;
+      }
+      Set<String> currencies = new TreeSet<>(expected.keySet());
+      currencies.addAll(scanned.keySet());
+      boolean matched = true;
+      for (String currency : currencies) {
+        BigDecimal expectedBalance = expected.getOrDefault(currency, BigDecimal.ZERO);
+        BigDecimal scannedBalance =
+            scanned.containsKey(currency) ? scanned.get(currency)[shard] : BigDecimal.ZERO;
+        if (expectedBalance.compareTo(scannedBalance) != 0) {
+          drifts.add(new ShardDrift(shard, currency, expectedBalance, scannedBalance));
+          matched = false;
+        }
+      }
+      if (matched) {
+        verified++;
+      }
+    }
+    LedgerReport report = new LedgerReport(Instant.now(), verified, unverified, List.copyOf(drifts),
+        ledgerAggregates.getTotalBalances(), ledgerAggregates.getTransferCount());
+    if (report.hasDrift()) {
+      log.error("Ledger drift detected in shards: {}", drifts);
+    }
+    lastReport = report;
+    return report;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  private void scheduledVerify() {
+    try {
+      verify();
+    } catch (RuntimeException e) {
+      log.error("Ledger verification failed.", e);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.dws.challenge.service.fx;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+/**
+ * Publishes the current {@link FxRates} snapshot. Readers only read a volatile reference and never
+ * lock; a refresher thread loads a new snapshot whenever the rates file changes and swaps it in
+ * whole, so a conversion never sees rates of two different loads.
+ * The rates file is a properties file mapping currency codes to their units per unit of the base
+ * currency; it stands in for a rate feed. A file that fails to load keeps the previous rates.
+ */
+@Service
+@Slf4j
+public class FxRateService {
+
+  private final String baseCurrency;
+  private final Resource ratesResource;
+  private final ScheduledExecutorService refresher;
+  private volatile FxRates rates;
+  private long ratesModifiedAt;
+
+  public FxRateService(@Value("${accounts.fx.base-currency:EUR}") String baseCurrency,
+                       @Value("${accounts.fx.rates:classpath:fx-rates.properties}") Resource ratesResource,
+                       @Value("${accounts.fx.refresh-interval:PT10S}") Duration refreshInterval) {
+    this.baseCurrency = baseCurrency;
+    this.ratesResource = ratesResource;
+    this.ratesModifiedAt = lastModified();
+    this.rates = load();
+    this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "fx-rates-refresher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.refresher.scheduleWithFixedDelay(this::refreshIfModified, refreshInterval.toMillis(),
+        refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  public FxRates getRates() {
+    return rates;
+  }
+
+  /**
+   * Loads the rates file again and publishes it.
+   * @throws IllegalArgumentException if the file holds an invalid rate.
+   */
+  public synchronized void reload() {
+    ratesModifiedAt = lastModified();
+    rates = load();
+    log.info("Loaded exchange rates of {} currencies from {}.", rates.getCurrencyCount(), ratesResource);
+  }
+
+  synchronized void refreshIfModified() {
+    try {
+      if (lastModified() != ratesModifiedAt) {
+        reload();
+      }
+    } catch (RuntimeException e) {
+      log.warn("Keeping the current exchange rates, loading {} failed.", ratesResource, e);
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    refresher.shutdownNow();
+  }
+
+  private FxRates load() {
+    Properties properties = new Properties();
+    try (InputStream in = ratesResource.getInputStream()) {
+      properties.load(in);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read exchange rates from " + ratesResource, e);
+    }
+    Map<String, BigDecimal> ratesPerBase = new HashMap<>();
+    for (String currency : properties.stringPropertyNames()) {
+      ratesPerBase.put(currency, new BigDecimal(properties.getProperty(currency).trim()));
+    }
+    return new FxRates(baseCurrency, ratesPerBase, Instant.now());
+  }
+
+  private long lastModified() {
+    try {
+      return ratesResource.lastModified();
+    } catch (IOException e) {
+      // not a file, such as a classpath resource inside a jar: never reloaded
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package com.dws.challenge.service.fx;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the exchange rates, published by {@link FxRateService}.
+ * The cross rate of every pair of currencies is precomputed once as a fixed-point multiplier with
+ * {@value #RATE_SCALE} decimals, so a conversion is a table lookup and a long multiplication for
+ * the amounts seen in practice; larger amounts multiply by the same rate as a {@link BigDecimal}.
+ * Converted amounts are rounded half-even to the minor unit of the target currency. A null currency
+ * stands for the base currency.
+ */
+public final class FxRates {
+
+  static final int RATE_SCALE = 12;
+
+  // amounts with more decimals take the BigDecimal path, see convert
+  private static final int MAX_FAST_SCALE = 18 - RATE_SCALE;
+
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private final String baseCurrency;
+  private final Instant loadedAt;
+  private final Map<String, Integer> indexes;
+  private final int[] fractionDigits;
+  private final long[] multipliers;
+  private final BigDecimal[] rates;
+
+  /**
+   * @param baseCurrency ISO 4217 code of the base currency.
+   * @param ratesPerBase units of each other currency per unit of the base currency.
+   * @param loadedAt when the rates were loaded.
+   */
+  public FxRates(String baseCurrency, Map<String, BigDecimal> ratesPerBase, Instant loadedAt) {
+    this.baseCurrency = baseCurrency;
+    this.loadedAt = loadedAt;
+    List<String> currencies = new ArrayList<>();
+    List<BigDecimal> perBase = new ArrayList<>();
+    currencies.add(baseCurrency);
+    perBase.add(BigDecimal.ONE);
+    ratesPerBase.forEach((currency, rate) -> {
+      if (!currency.equals(baseCurrency)) {
+        if (rate.signum() <= 0) {
+          throw new IllegalArgumentException("Exchange rate of " + currency + " must be positive.");
+        }
+        currencies.add(currency);
+        perBase.add(rate);
+      }
+    });
+
+    int count = currencies.size();
+    Map<String, Integer> indexes = new HashMap<>();
+    this.fractionDigits = new int[count];
+    for (int i = 0; i < count; i++) {
+      String currency = currencies.get(i);
+      indexes.put(currency, i);
+      // throws IllegalArgumentException for codes that are not ISO 4217
+      fractionDigits[i] = Math.max(0, Currency.getInstance(currency).getDefaultFractionDigits());
+    }
+    this.indexes = Map.copyOf(indexes);
+    this.multipliers = new long[count * count];
+    this.rates = new BigDecimal[count * count];
+    for (int from = 0; from < count; from++) {
+      for (int to = 0; to < count; to++) {
+        BigDecimal rate = perBase.get(to)
+            .divide(perBase.get(from), RATE_SCALE, RoundingMode.HALF_EVEN);
+        if (rate.signum() == 0) {
+          throw new IllegalArgumentException("Exchange rate from " + currencies.get(from)
+              + " to " + currencies.get(to) + " is below the rate precision.");
+        }
+        try {
+          multipliers[from * count + to] = rate.unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+          throw new IllegalArgumentException("Exchange rate from " + currencies.get(from)
+              + " to " + currencies.get(to) + " is too large.", e);
+        }
+        rates[from * count + to] = rate;
+      }
+    }
+  }
+
+  public String getBaseCurrency() {
+    return baseCurrency;
+  }
+
+  public Instant getLoadedAt() {
+    return loadedAt;
+  }
+
+  public int getCurrencyCount() {
+    return fractionDigits.length;
+  }
+
+  public boolean supports(String currency) {
+    return currency == null || indexes.containsKey(currency);
+  }
+
+  /**
+   * @return whether two currencies, either null for the base currency, are the same.
+   */
+  public boolean isSameCurrency(String first, String second) {
+    return (first != null ? first : baseCurrency).equals(second != null ? second : baseCurrency);
+  }
+
+  /**
+   * Converts an amount between two currencies.
+   * @param amount amount in the source currency.
+   * @param from source currency, null for the base currency.
+   * @param to target currency, null for the base currency.
+   * @return the amount in the target currency, rounded to its minor unit.
+   * @throws IllegalArgumentException if either currency has no rate.
+   */
+  public BigDecimal convert(BigDecimal amount, String from, String to) {
+    int target = indexOf(to);
+    int index = indexOf(from) * fractionDigits.length + target;
+    int digits = fractionDigits[target];
+    int scale = amount.scale();
+    if (scale >= 0 && scale <= MAX_FAST_SCALE && amount.precision() <= 18) {
+      long unscaled = amount.unscaledValue().longValue();
+      long multiplier = multipliers[index];
+      long product = unscaled * multiplier;
+      if (Math.multiplyHigh(unscaled, multiplier) == (product >> 63)) {
+        return BigDecimal.valueOf(roundHalfEven(product, scale + RATE_SCALE - digits), digits);
+      }
+    }
+    return amount.multiply(rates[index]).setScale(digits, RoundingMode.HALF_EVEN);
+  }
+
+  // drops the given number of decimal digits, at most 18, rounding half-even
+  private static long roundHalfEven(long value, int droppedDigits) {
+    long divisor = POWERS_OF_TEN[droppedDigits];
+    long quotient = value / divisor;
+    long remainder = Math.abs(value % divisor);
+    long twice = remainder * 2;
+    if (twice > divisor || (twice == divisor && (quotient & 1) != 0)) {
+      quotient += value < 0 ? -1 : 1;
+    }
+    return quotient;
+  }
+
+  private int indexOf(String currency) {
+    if (currency == null) {
+      return 0;
+    }
+    Integer index = indexes.get(currency);
+    if (index == null) {
+      throw new IllegalArgumentException("Unsupported currency: " + currency + ".");
+    }
+    return index;
+  }
+}
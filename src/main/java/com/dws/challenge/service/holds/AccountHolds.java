@@ -0,0 +1,159 @@
+package com.dws.challenge.service.holds;
+
+import com.dws.challenge.domain.Hold;
+import com.dws.challenge.repository.AccountLocks;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Active holds, indexed by id and by payer account.
+ * The holds of an account and their running total are only read and changed under the monitor of
+ * the account (see {@link AccountLocks}), like its balance. Expired holds are dropped lazily by the
+ * first reader of the account past the earliest expiry, and by {@link #expireDue()}.
+ */
+@Component
+public class AccountHolds {
+
+  private static final class AccountHoldSet {
+    private final Map<String, Hold> holds = new HashMap<>();
+    private BigDecimal held = BigDecimal.ZERO;
+    // read without the account monitor by the sweeper
+    private volatile Instant earliestExpiry = Instant.MAX;
+  }
+
+  private final Clock clock;
+  private final Map<String, Hold> holdsById = new ConcurrentHashMap<>();
+  private final Map<String, AccountHoldSet> holdsByAccount = new ConcurrentHashMap<>();
+
+  public AccountHolds() {
+    this(Clock.systemUTC());
+  }
+
+  AccountHolds(Clock clock) {
+    this.clock = clock;
+  }
+
+  public Instant now() {
+    return clock.instant();
+  }
+
+  public boolean hasHolds(String accountId) {
+    return holdsByAccount.containsKey(accountId);
+  }
+
+  /**
+   * Total of the active holds of an account. The caller must hold the monitor of the account.
+   * @param accountId payer account of the holds.
+   * @return the held amount, zero without active holds.
+   */
+  public BigDecimal heldAmount(String accountId) {
+    AccountHoldSet holdSet = holdsByAccount.get(accountId);
+    if (holdSet == null) {
+      return BigDecimal.ZERO;
+    }
+    expire(accountId, holdSet, clock.instant());
+    return holdSet.held;
+  }
+
+  /**
+   * @param holdId id of the hold.
+   * @return the hold, possibly already expired, or null.
+   */
+  public Hold find(String holdId) {
+    return holdsById.get(holdId);
+  }
+
+  /**
+   * Drops every hold, for use when the accounts are cleared.
+   */
+  public void clear() {
+    holdsByAccount.clear();
+    holdsById.clear();
+  }
+
+  /**
+   * Adds a hold. The caller must hold the monitor of the payer account.
+   * @param hold hold to add.
+   */
+  public void add(Hold hold) {
+    AccountHoldSet holdSet =
+        holdsByAccount.computeIfAbsent(hold.accountFromId(), id -> new AccountHoldSet());
+    holdSet.holds.put(hold.holdId(), hold);
+    holdSet.held = holdSet.held.add(hold.amount());
+    if (hold.expiresAt().isBefore(holdSet.earliestExpiry)) {
+      holdSet.earliestExpiry = hold.expiresAt();
+    }
+    holdsById.put(hold.holdId(), hold);
+  }
+
+  /**
+   * Removes an active hold. The caller must hold the monitor of the payer account.
+   * @param hold hold to remove.
+   * @return false if the hold was not active anymore: released, captured or expired.
+   */
+  public boolean remove(Hold hold) {
+    AccountHoldSet holdSet = holdsByAccount.get(hold.accountFromId());
+    if (holdSet == null) {
+      return false;
+    }
+    expire(hold.accountFromId(), holdSet, clock.instant());
+    if (holdSet.holds.remove(hold.holdId()) == null) {
+      return false;
+    }
+    holdsById.remove(hold.holdId());
+    holdSet.held = holdSet.held.subtract(hold.amount());
+    if (holdSet.holds.isEmpty()) {
+      holdsByAccount.remove(hold.accountFromId());
+    }
+    return true;
+  }
+
+  /**
+   * Drops the expired holds of every account past its earliest expiry, taking the monitor of
+   * each such account in turn.
+   * @return the number of accounts visited.
+   */
+  public int expireDue() {
+    Instant now = clock.instant();
+    int visited = 0;
+    for (Map.Entry<String, AccountHoldSet> entry : holdsByAccount.entrySet()) {
+      if (!now.isBefore(entry.getValue().earliestExpiry)) {
+        synchronized (AccountLocks.lockFor(entry.getKey())) {
+          AccountHoldSet holdSet = holdsByAccount.get(entry.getKey());
+          if (holdSet != null) {
+            expire(entry.getKey(), holdSet, now);
+          }
+        }
+        visited++;
+      }
+    }
+    return visited;
+  }
+
+  private void expire(String accountId, AccountHoldSet holdSet, Instant now) {
+    if (now.isBefore(holdSet.earliestExpiry)) {
+      return;
+    }
+    Instant earliestExpiry = Instant.MAX;
+    for (Iterator<Hold> iterator = holdSet.holds.values().iterator(); iterator.hasNext(); ) {
+      Hold hold = iterator.next();
+      if (hold.isExpired(now)) {
+        iterator.remove();
+        holdsById.remove(hold.holdId());
+        holdSet.held = holdSet.held.subtract(hold.amount());
+      } else if (hold.expiresAt().isBefore(earliestExpiry)) {
+        earliestExpiry = hold.expiresAt();
+      }
+    }
+    holdSet.earliestExpiry = earliestExpiry;
+    if (holdSet.holds.isEmpty()) {
+      holdsByAccount.remove(accountId);
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.dws.challenge.service.holds;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.Hold;
+import com.dws.challenge.domain.aggregate.HoldResponse;
+import com.dws.challenge.domain.command.CaptureHoldCommand;
+import com.dws.challenge.domain.command.PlaceHoldCommand;
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import com.dws.challenge.domain.valueobject.HoldStatus;
+import com.dws.challenge.exception.AccountNotFoundException;
+import com.dws.challenge.exception.HoldNotFoundException;
+import com.dws.challenge.exception.TransferAmountException;
+import com.dws.challenge.logging.LogRateLimiter;
+import com.dws.challenge.repository.AccountLocks;
+import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.fx.FxRates;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Authorization holds: funds are reserved on the payer account now and transferred to the payee
+ * account later.
+ * Placing and releasing a hold only lock the payer account; capturing one is a regular transfer
+ * of the captured amount, done after the hold is removed under the same locks. Expired holds are
+ * dropped lazily on access and by a background sweeper, never by a timer per hold.
+ */
+@Service
+@Slf4j
+public class HoldsService {
+
+  private final AccountsService accountsService;
+  private final AccountHolds accountHolds;
+  private final Duration defaultTtl;
+  private final ScheduledExecutorService sweeper;
+  // per event and reason, at most 10 events logged per second
+  private final LogRateLimiter eventLogLimiter = new LogRateLimiter(10, Duration.ofSeconds(1));
+
+  public HoldsService(AccountsService accountsService, AccountHolds accountHolds,
+                      @Value("${accounts.holds.default-ttl:PT15M}") Duration defaultTtl,
+                      @Value("${accounts.holds.sweep-interval:PT1S}") Duration sweepInterval) {
+    this.accountsService = accountsService;
+    this.accountHolds = accountHolds;
+    this.defaultTtl = defaultTtl;
+    this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "holds-sweeper");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.sweeper.scheduleWithFixedDelay(this::sweep, sweepInterval.toMillis(),
+        sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Reserves funds on the payer account.
+   * @param command payer and payee accounts, amount with its optional currency and optional time
+   *     to live of the hold.
+   * @return the active hold.
+   */
+  public HoldResponse placeHold(PlaceHoldCommand command) {
+    if (Objects.equals(command.accountFromId(), command.accountToId())) {
+      throw new IllegalArgumentException("Hold between same account is not allowed.");
+    }
+    Duration ttl = command.ttl() == null ? defaultTtl : command.ttl();
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("Hold time to live must be positive.");
+    }
+    Hold hold;
+    synchronized (AccountLocks.lockFor(command.accountFromId())) {
+      Account payer = validateAccount(accountsService.getAccount(command.accountFromId()),
+          command.accountFromId());
+      validateAccount(accountsService.getAccountsRepository().getAccount(command.accountToId()),
+          command.accountToId());
+
+      BigDecimal amount = heldAmount(command, payer);
+      BigDecimal available =
+          payer.getBalance().subtract(accountHolds.heldAmount(payer.getAccountId()));
+      if (available.compareTo(amount) < 0) {
+        logRejection("insufficient_funds", "accountId", payer.getAccountId());
+        throw new TransferAmountException(String.format(
+            "Insufficient fund balance in account number : %s.", payer.getAccountId()));
+      }
+      hold = new Hold(UUID.randomUUID().toString(), command.accountFromId(),
+          command.accountToId(), amount, accountHolds.now().plus(ttl));
+      accountHolds.add(hold);
+    }
+    logEvent("hold.placed", hold);
+    return new HoldResponse(hold.holdId(), HoldStatus.ACTIVE, hold.amount(), null,
+        hold.expiresAt());
+  }
+
+  /**
+   * Transfers the captured part of a hold to its payee and releases the remainder.
+   * @param holdId id of the hold.
+   * @param command amount to capture, the full hold if absent.
+   * @return the captured hold.
+   */
+  public HoldResponse captureHold(String holdId, CaptureHoldCommand command) {
+    Hold hold = findHold(holdId);
+    BigDecimal amount = command == null || command.amount() == null
+        ? hold.amount() : command.amount();
+    if (amount.compareTo(hold.amount()) > 0) {
+      throw new IllegalArgumentException("Capture amount must not exceed the held amount.");
+    }
+    String payerAccountId = hold.accountFromId();
+    String payeeAccountId = hold.accountToId();
+    String firstLockAccNum = payerAccountId.compareTo(payeeAccountId) < 0 ? payerAccountId : payeeAccountId;
+    String secondLockAccNum = payerAccountId.compareTo(payeeAccountId) < 0 ? payeeAccountId : payerAccountId;
+
+    synchronized (AccountLocks.lockFor(firstLockAccNum)) {
+      synchronized (AccountLocks.lockFor(secondLockAccNum)) {
+        if (!accountHolds.remove(hold)) {
+          throw holdNotFound(holdId);
+        }
+        try {
+          accountsService.transferAmount(
+              new TransferAmountCommand(payerAccountId, payeeAccountId, amount));
+        } catch (RuntimeException e) {
+          accountHolds.add(hold);
+          throw e;
+        }
+      }
+    }
+    return new HoldResponse(holdId, HoldStatus.CAPTURED, hold.amount(), amount,
+        hold.expiresAt());
+  }
+
+  /**
+   * Releases a hold, making its funds available again.
+   * @param holdId id of the hold.
+   * @return the released hold.
+   */
+  public HoldResponse releaseHold(String holdId) {
+    Hold hold = findHold(holdId);
+    synchronized (AccountLocks.lockFor(hold.accountFromId())) {
+      if (!accountHolds.remove(hold)) {
+        throw holdNotFound(holdId);
+      }
+    }
+    logEvent("hold.released", hold);
+    return new HoldResponse(holdId, HoldStatus.RELEASED, hold.amount(), null, hold.expiresAt());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    sweeper.shutdownNow();
+  }
+
+  // held amounts are in the payer account currency, which a capture transfers them in
+  private BigDecimal heldAmount(PlaceHoldCommand command, Account payer) {
+    if (command.currency() == null) {
+      return command.amount();
+    }
+    FxRates rates = accountsService.getFxRateService().getRates();
+    if (rates.isSameCurrency(command.currency(), payer.getCurrency())) {
+      return command.amount();
+    }
+    BigDecimal converted =
+        rates.convert(command.amount(), command.currency(), payer.getCurrency());
+    if (converted.signum() <= 0) {
+      throw new IllegalArgumentException(
+          "Hold amount is below the minor unit of the payer account currency.");
+    }
+    return converted;
+  }
+
+  private Hold findHold(String holdId) {
+    Hold hold = accountHolds.find(holdId);
+    if (hold == null || hold.isExpired(accountHolds.now())) {
+      throw holdNotFound(holdId);
+    }
+    return hold;
+  }
+
+  private void sweep() {
+    try {
+      accountHolds.expireDue();
+    } catch (RuntimeException e) {
+      log.error("Failed to expire holds.", e);
+    }
+  }
+
+  private HoldNotFoundException holdNotFound(String holdId) {
+    logRejection("hold_not_found", "holdId", holdId);
+    return new HoldNotFoundException(String.format("Hold with id: %s not found.", holdId));
+  }
+
+  private Account validateAccount(Account account, String accountId) {
+    if (Objects.isNull(account)) {
+      logRejection("account_not_found", "accountId", accountId);
+      throw new AccountNotFoundException(
+          String.format("Account with id: %s not found.", accountId));
+    }
+    return account;
+  }
+
+  // logged as sampled structured events, like the transfer rejections of AccountsService
+  private void logRejection(String reason, String idKey, String id) {
+    long suppressed = eventLogLimiter.tryAcquire(reason);
+    if (suppressed >= 0) {
+      log.atWarn().setMessage("hold.rejected")
+          .addKeyValue("reason", reason)
+          .addKeyValue(idKey, id)
+          .addKeyValue("suppressed", suppressed)
+          .log();
+    }
+  }
+
+  private void logEvent(String event, Hold hold) {
+    long suppressed = eventLogLimiter.tryAcquire(event);
+    if (suppressed >= 0) {
+      log.atInfo().setMessage(event)
+          .addKeyValue("holdId", hold.holdId())
+          .addKeyValue("accountId", hold.accountFromId())
+          .addKeyValue("amount", hold.amount())
+          .addKeyValue("suppressed", suppressed)
+          .log();
+    }
+  }
+}
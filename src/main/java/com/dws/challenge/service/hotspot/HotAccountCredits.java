@@ -0,0 +1,68 @@
+package com.dws.challenge.service.hotspot;
+
+import com.dws.challenge.domain.Account;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Execution lane for credits to hot accounts.
+ * Instead of taking the monitor of a hot payee, a transfer adds its amount to a
+ * {@link StripedDecimalAdder} of pending credits. The pending credits are folded into the account
+ * balance by whoever next holds the account monitor: a debit of the account, or a read through
+ * {@code AccountsService}.
+ * A lane is kept once created, it simply stops receiving credits when its account cools down.
+ */
+@Component
+public class HotAccountCredits {
+
+  private final Map<String, StripedDecimalAdder> pendingCredits = new ConcurrentHashMap<>();
+
+  /**
+   * Credits an account without holding its monitor.
+   * @param accountId account credited.
+   * @param amount amount credited.
+   */
+  public void credit(String accountId, BigDecimal amount) {
+    pendingCredits.computeIfAbsent(accountId, id -> new StripedDecimalAdder()).add(amount);
+  }
+
+  /**
+   * @param accountId account to look up.
+   * @return true if credits for the account may still have to be folded into its balance.
+   */
+  public boolean hasPending(String accountId) {
+    StripedDecimalAdder credits = pendingCredits.get(accountId);
+    return credits != null && !credits.isZero();
+  }
+
+  /**
+   * @param accountId account to look up.
+   * @return sum of the credits not yet folded into the balance of the account.
+   */
+  public BigDecimal pending(String accountId) {
+    StripedDecimalAdder credits = pendingCredits.get(accountId);
+    return credits == null ? BigDecimal.ZERO : credits.sum();
+  }
+
+  /**
+   * Moves the pending credits of an account into its balance. The caller must hold the monitor
+   * of the account.
+   * @param account account to settle.
+   */
+  public void fold(Account account) {
+    StripedDecimalAdder credits = pendingCredits.get(account.getAccountId());
+    if (credits != null && !credits.isZero()) {
+      account.setBalance(account.getBalance().add(credits.sumThenReset()));
+    }
+  }
+
+  /**
+   * Drops every pending credit, for use when the accounts are cleared, so that credits of a
+   * removed account are never folded into a new account reusing its id.
+   */
+  public void clear() {
+    pendingCredits.clear();
+  }
+}
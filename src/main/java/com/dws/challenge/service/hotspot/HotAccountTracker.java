@@ -0,0 +1,105 @@
+package com.dws.challenge.service.hotspot;
+
+import com.dws.challenge.service.hotspot.SpaceSavingSketch.Counter;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Online detection of the accounts taking part in most transfers.
+ * A sample of the transfer participants feeds a {@link SpaceSavingSketch}. After every window of
+ * samples the top accounts whose share of the window reaches a threshold are published as the hot
+ * set, and the sketch decays so that accounts cooling down leave the set again.
+ * Recording never blocks a transfer: a sample is dropped when another thread holds the sketch.
+ */
+@Component
+public class HotAccountTracker {
+
+  private final boolean enabled;
+  private final int topK;
+  private final double minShare;
+  private final int sampleEvery;
+  private final int window;
+
+  private final SpaceSavingSketch sketch;
+  private final ReentrantLock lock = new ReentrantLock();
+  private int samplesInWindow;
+  private volatile Set<String> hotAccounts = Set.of();
+
+  public HotAccountTracker(@Value("${accounts.hot.enabled:true}") boolean enabled,
+                           @Value("${accounts.hot.capacity:256}") int capacity,
+                           @Value("${accounts.hot.top-k:8}") int topK,
+                           @Value("${accounts.hot.min-share:0.02}") double minShare,
+                           @Value("${accounts.hot.sample-every:4}") int sampleEvery,
+                           @Value("${accounts.hot.window:4096}") int window) {
+    if (topK > capacity) {
+      throw new IllegalArgumentException("accounts.hot.top-k must not exceed accounts.hot.capacity");
+    }
+    this.enabled = enabled;
+    this.topK = topK;
+    this.minShare = minShare;
+    this.sampleEvery = sampleEvery;
+    this.window = window;
+    this.sketch = new SpaceSavingSketch(capacity);
+  }
+
+  /**
+   * Counts the participants of a transfer, one transfer in {@code sample-every} on average.
+   * @param payerAccountId account debited by the transfer.
+   * @param payeeAccountId account credited by the transfer.
+   */
+  public void record(String payerAccountId, String payeeAccountId) {
+    if (!enabled || (sampleEvery > 1 && ThreadLocalRandom.current().nextInt(sampleEvery) != 0)) {
+      return;
+    }
+    if (!lock.tryLock()) {
+      return;
+    }
+    try {
+      sketch.add(payerAccountId);
+      sketch.add(payeeAccountId);
+      samplesInWindow += 2;
+      if (samplesInWindow >= window) {
+        publishHotAccounts();
+        sketch.decay();
+        samplesInWindow = 0;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public boolean isHot(String accountId) {
+    return hotAccounts.contains(accountId);
+  }
+
+  public Set<String> getHotAccounts() {
+    return hotAccounts;
+  }
+
+  /**
+   * @param limit maximum number of counters returned.
+   * @return the largest counters of the sketch, largest first.
+   */
+  public List<Counter> topAccounts(int limit) {
+    lock.lock();
+    try {
+      return sketch.top(limit);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void publishHotAccounts() {
+    // guaranteed count (count - error) so that a newcomer inheriting a large error is not promoted
+    long threshold = (long) Math.ceil(sketch.total() * minShare);
+    hotAccounts = sketch.top(topK).stream()
+        .filter(counter -> counter.count() - counter.error() >= threshold)
+        .map(Counter::key)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+}
@@ -0,0 +1,47 @@
+package com.dws.challenge.service.hotspot;
+
+import com.dws.challenge.service.hotspot.SpaceSavingSketch.Counter;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint {@code /actuator/hotaccounts} exposing the accounts currently routed to the
+ * hot account lane and the largest counters of the detection sketch.
+ */
+@Component
+@Endpoint(id = "hotaccounts")
+@RequiredArgsConstructor
+public class HotAccountsEndpoint {
+
+  private static final int DEFAULT_LIMIT = 32;
+
+  private final HotAccountTracker hotAccountTracker;
+
+  /**
+   * Hot accounts report.
+   * @param hotAccounts accounts whose credits currently go through the hot account lane.
+   * @param topAccounts largest counters of the sketch, with their estimated transfer counts.
+   */
+  public record HotAccountsReport(Set<String> hotAccounts, List<Counter> topAccounts) {
+  }
+
+  /**
+   * @param limit maximum number of counters reported, 32 by default.
+   * @throws InvalidEndpointRequestException answered with 400 if the limit is not positive.
+   */
+  @ReadOperation
+  public HotAccountsReport hotAccounts(@Nullable Integer limit) {
+    if (limit != null && limit <= 0) {
+      throw new InvalidEndpointRequestException("Limit must be positive: " + limit,
+          "Limit must be positive.");
+    }
+    return new HotAccountsReport(hotAccountTracker.getHotAccounts(),
+        hotAccountTracker.topAccounts(limit == null ? DEFAULT_LIMIT : limit));
+  }
+}
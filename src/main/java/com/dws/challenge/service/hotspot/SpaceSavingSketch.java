@@ -0,0 +1,96 @@
+package com.dws.challenge.service.hotspot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitter sketch (Metwally et al.) over a bounded number of counters.
+ * Any key seen more than {@code total / capacity} times is guaranteed to hold a counter, and its
+ * estimate exceeds its true count by at most the recorded error.
+ * Not thread-safe, callers serialize access.
+ */
+class SpaceSavingSketch {
+
+  /**
+   * Estimated occurrences of a key.
+   *
+   * @param key   the tracked key.
+   * @param count estimated number of occurrences, an upper bound of the true count.
+   * @param error maximum overestimation of count.
+   */
+  record Counter(String key, long count, long error) {
+  }
+
+  private static final class Slot {
+    private long count;
+    private long error;
+  }
+
+  private final int capacity;
+  private final Map<String, Slot> slots;
+  private long total;
+
+  SpaceSavingSketch(int capacity) {
+    this.capacity = capacity;
+    this.slots = new HashMap<>(capacity * 2);
+  }
+
+  void add(String key) {
+    total++;
+    Slot slot = slots.get(key);
+    if (slot != null) {
+      slot.count++;
+      return;
+    }
+    if (slots.size() < capacity) {
+      slot = new Slot();
+      slot.count = 1;
+      slots.put(key, slot);
+      return;
+    }
+    // replace the smallest counter, the newcomer inherits its count as error
+    Map.Entry<String, Slot> smallest = null;
+    for (Map.Entry<String, Slot> entry : slots.entrySet()) {
+      if (smallest == null || entry.getValue().count < smallest.getValue().count) {
+        smallest = entry;
+      }
+    }
+    slot = slots.remove(smallest.getKey());
+    slot.error = slot.count;
+    slot.count++;
+    slots.put(key, slot);
+  }
+
+  long total() {
+    return total;
+  }
+
+  /**
+   * @return the {@code limit} largest counters, largest first.
+   */
+  List<Counter> top(int limit) {
+    List<Counter> counters = new ArrayList<>(slots.size());
+    slots.forEach((key, slot) -> counters.add(new Counter(key, slot.count, slot.error)));
+    counters.sort(Comparator.comparingLong(Counter::count).reversed());
+    return counters.size() > limit ? List.copyOf(counters.subList(0, limit)) : counters;
+  }
+
+  /**
+   * Halves every counter and the total so that old traffic fades out, dropping emptied counters.
+   */
+  void decay() {
+    total >>= 1;
+    for (Iterator<Slot> iterator = slots.values().iterator(); iterator.hasNext(); ) {
+      Slot slot = iterator.next();
+      slot.count >>= 1;
+      slot.error >>= 1;
+      if (slot.count == 0) {
+        iterator.remove();
+      }
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.dws.challenge.service.hotspot;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@code LongAdder}-style accumulator of {@link BigDecimal} amounts.
+ * Concurrent writers are spread over several cells picked from the calling thread, so they do not
+ * contend on a single lock or CAS location; readers fold the cells.
+ */
+public class StripedDecimalAdder {
+
+  // power of two, between two and four cells per processor
+  private static final int CELLS =
+      Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 2;
+
+  private final AtomicReferenceArray<BigDecimal> cells = new AtomicReferenceArray<>(CELLS);
+
+  public StripedDecimalAdder() {
+    for (int i = 0; i < CELLS; i++) {
+      cells.set(i, BigDecimal.ZERO);
+    }
+  }
+
+  public void add(BigDecimal amount) {
+    int index = cellIndex();
+    BigDecimal current;
+    do {
+      current = cells.get(index);
+    } while (!cells.compareAndSet(index, current, current.add(amount)));
+  }
+
+  public BigDecimal sum() {
+    BigDecimal sum = BigDecimal.ZERO;
+    for (int i = 0; i < CELLS; i++) {
+      sum = sum.add(cells.get(i));
+    }
+    return sum;
+  }
+
+  /**
+   * Atomically takes the content of every cell. Amounts added concurrently are either part of the
+   * returned sum or left in the adder, never lost.
+   * @return the sum of the taken amounts.
+   */
+  public BigDecimal sumThenReset() {
+    BigDecimal sum = BigDecimal.ZERO;
+    for (int i = 0; i < CELLS; i++) {
+      if (cells.get(i).signum() != 0) {
+        sum = sum.add(cells.getAndSet(i, BigDecimal.ZERO));
+      }
+    }
+    return sum;
+  }
+
+  public boolean isZero() {
+    for (int i = 0; i < CELLS; i++) {
+      if (cells.get(i).signum() != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int cellIndex() {
+    long id = Thread.currentThread().getId();
+    int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & (CELLS - 1);
+  }
+}
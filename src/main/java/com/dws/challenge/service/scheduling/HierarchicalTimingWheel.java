@@ -0,0 +1,209 @@
+package com.dws.challenge.service.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck) holding entries due at a given time.
+ * Time advances in ticks of a fixed duration. Level {@code L} has 256 slots of {@code 256^L} ticks
+ * each; an entry sits in the lowest level covering its distance to the deadline and moves one
+ * level down every time the lower level wraps. Four levels cover {@code 2^32} ticks, entries
+ * further out are parked in the top level and re-examined when it reaches them.
+ * Scheduling and cancelling are O(1): slots are intrusive doubly linked lists.
+ *
+ * @param <T> payload of the entries.
+ */
+public class HierarchicalTimingWheel<T> {
+
+  private static final int SLOT_BITS = 8;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int MASK = SLOTS - 1;
+  private static final int LEVELS = 4;
+  private static final long SPAN = 1L << (SLOT_BITS * LEVELS);
+
+  /**
+   * Handle of a scheduled entry, used to cancel it.
+   * @param <T> payload of the entry.
+   */
+  public static final class Timeout<T> {
+    private final T payload;
+    private final long deadlineTick;
+    private Timeout<T> previous;
+    private Timeout<T> next;
+    private Slot<T> slot;
+
+    private Timeout(T payload, long deadlineTick) {
+      this.payload = payload;
+      this.deadlineTick = deadlineTick;
+    }
+
+    public T getPayload() {
+      return payload;
+    }
+  }
+
+  private static final class Slot<T> {
+    private Timeout<T> head;
+
+    private void add(Timeout<T> timeout) {
+      timeout.slot = this;
+      timeout.next = head;
+      if (head != null) {
+        head.previous = timeout;
+      }
+      head = timeout;
+    }
+
+    private void remove(Timeout<T> timeout) {
+      if (timeout.previous != null) {
+        timeout.previous.next = timeout.next;
+      } else {
+        head = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.previous = timeout.previous;
+      }
+      timeout.previous = null;
+      timeout.next = null;
+      timeout.slot = null;
+    }
+
+    private Timeout<T> takeAll() {
+      Timeout<T> all = head;
+      head = null;
+      return all;
+    }
+  }
+
+  private final long tickMillis;
+  private final long startMillis;
+  private final Slot<T>[][] levels;
+  private final ReentrantLock lock = new ReentrantLock();
+  private long currentTick;
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("Tick duration must be positive.");
+    }
+    this.tickMillis = tickMillis;
+    this.startMillis = startMillis;
+    this.levels = new Slot[LEVELS][SLOTS];
+    for (Slot<T>[] level : levels) {
+      for (int i = 0; i < SLOTS; i++) {
+        level[i] = new Slot<>();
+      }
+    }
+  }
+
+  /**
+   * Schedules an entry. Deadlines already passed expire on the next tick.
+   * @param payload payload handed back when the entry expires.
+   * @param deadlineMillis epoch millis at which the entry is due.
+   * @return handle to cancel the entry.
+   */
+  public Timeout<T> schedule(T payload, long deadlineMillis) {
+    lock.lock();
+    try {
+      long deadlineTick = Math.max(ceilDiv(deadlineMillis - startMillis, tickMillis),
+          currentTick + 1);
+      Timeout<T> timeout = new Timeout<>(payload, deadlineTick);
+      place(timeout);
+      size++;
+      return timeout;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @param timeout handle returned by {@link #schedule}.
+   * @return true if the entry was pending and will not expire anymore.
+   */
+  public boolean cancel(Timeout<T> timeout) {
+    lock.lock();
+    try {
+      if (timeout.slot == null) {
+        return false;
+      }
+      timeout.slot.remove(timeout);
+      size--;
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Advances the wheel to the given time.
+   * @param nowMillis current epoch millis.
+   * @return payloads of the entries that became due, in no particular order.
+   */
+  public List<T> advanceTo(long nowMillis) {
+    List<T> expired = new ArrayList<>();
+    lock.lock();
+    try {
+      long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+      while (currentTick < targetTick) {
+        currentTick++;
+        // higher levels first, so entries cascading into a slot about to be processed move on
+        for (int level = LEVELS - 1; level > 0; level--) {
+          if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+            cascade(levels[level][slotIndex(currentTick, level)]);
+          }
+        }
+        for (Timeout<T> timeout = levels[0][slotIndex(currentTick, 0)].takeAll(); timeout != null; ) {
+          Timeout<T> next = timeout.next;
+          timeout.previous = null;
+          timeout.next = null;
+          timeout.slot = null;
+          expired.add(timeout.payload);
+          size--;
+          timeout = next;
+        }
+      }
+      return expired;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int size() {
+    lock.lock();
+    try {
+      return size;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void cascade(Slot<T> slot) {
+    for (Timeout<T> timeout = slot.takeAll(); timeout != null; ) {
+      Timeout<T> next = timeout.next;
+      timeout.previous = null;
+      timeout.next = null;
+      place(timeout);
+      timeout = next;
+    }
+  }
+
+  private void place(Timeout<T> timeout) {
+    long delta = timeout.deadlineTick - currentTick;
+    long tick = delta < SPAN ? timeout.deadlineTick : currentTick + SPAN - 1;
+    int level = 0;
+    while (level < LEVELS - 1 && tick - currentTick >= 1L << (SLOT_BITS * (level + 1))) {
+      level++;
+    }
+    levels[level][slotIndex(tick, level)].add(timeout);
+  }
+
+  private static int slotIndex(long tick, int level) {
+    return (int) ((tick >>> (SLOT_BITS * level)) & MASK);
+  }
+
+  private static long ceilDiv(long dividend, long divisor) {
+    return -Math.floorDiv(-dividend, divisor);
+  }
+}
@@ -0,0 +1,245 @@
+package com.dws.challenge.service.scheduling;
+
+import com.dws.challenge.domain.ScheduledTransfer;
+import com.dws.challenge.domain.aggregate.ScheduledTransferResponse;
+import com.dws.challenge.domain.command.ScheduleTransferCommand;
+import com.dws.challenge.domain.valueobject.ScheduledTransferStatus;
+import com.dws.challenge.exception.ScheduledTransferNotFoundException;
+import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.scheduling.HierarchicalTimingWheel.Timeout;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Holds scheduled transfers in a {@link HierarchicalTimingWheel} and executes them through
+ * {@link AccountsService} when due.
+ * A single ticker thread advances the wheel; due transfers are handed to worker threads in
+ * batches, so request threads never wait for scheduled work. Finished and cancelled transfers
+ * stay queryable for the retention period, which is tracked by the same wheel. Occurrences of a
+ * recurring transfer that were missed, such as those before a start time in the past, are skipped.
+ */
+@Service
+@Slf4j
+public class ScheduledTransferService {
+
+  // keeps the random offset of an execution within a long of millis
+  static final Duration MAX_JITTER = Duration.ofDays(1);
+
+  private final AccountsService accountsService;
+  private final Clock clock;
+  private final int batchSize;
+  private final Duration retention;
+
+  private final HierarchicalTimingWheel<ScheduledTransfer> wheel;
+  private final Map<String, ScheduledTransfer> scheduledTransfers = new ConcurrentHashMap<>();
+  private final Map<String, Timeout<ScheduledTransfer>> timeouts = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService ticker;
+  private final ExecutorService workers;
+
+  @Autowired
+  public ScheduledTransferService(AccountsService accountsService,
+                                  @Value("${accounts.scheduled.tick-millis:10}") long tickMillis,
+                                  @Value("${accounts.scheduled.workers:2}") int workers,
+                                  @Value("${accounts.scheduled.batch-size:256}") int batchSize,
+                                  @Value("${accounts.scheduled.retention:PT1H}") Duration retention) {
+    this(accountsService, Clock.systemUTC(), tickMillis, workers, batchSize, retention);
+  }
+
+  ScheduledTransferService(AccountsService accountsService, Clock clock, long tickMillis,
+                           int workers, int batchSize, Duration retention) {
+    this.accountsService = accountsService;
+    this.clock = clock;
+    this.batchSize = batchSize;
+    this.retention = retention;
+    this.wheel = new HierarchicalTimingWheel<>(tickMillis, clock.millis());
+    this.ticker = Executors.newSingleThreadScheduledExecutor(
+        runnable -> daemon(runnable, "scheduled-transfers-ticker"));
+    this.workers = Executors.newFixedThreadPool(workers,
+        runnable -> daemon(runnable, "scheduled-transfers-worker"));
+    this.ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Schedules a transfer.
+   * @param command transfer with its execution time and optional recurrence and jitter.
+   * @return the pending scheduled transfer.
+   */
+  public ScheduledTransferResponse schedule(ScheduleTransferCommand command) {
+    if (command.interval() != null
+        && (command.interval().isNegative() || command.interval().isZero())) {
+      throw new IllegalArgumentException("Interval must be positive.");
+    }
+    if (command.jitter() != null && command.jitter().isNegative()) {
+      throw new IllegalArgumentException("Jitter must not be negative.");
+    }
+    if (command.jitter() != null && command.jitter().compareTo(MAX_JITTER) > 0) {
+      throw new IllegalArgumentException("Jitter must not exceed " + MAX_JITTER + ".");
+    }
+    // converted with the rates of each execution, but rejected now if it has none
+    String currency = command.transfer().currency();
+    if (currency != null && !accountsService.getFxRateService().getRates().supports(currency)) {
+      throw new IllegalArgumentException("Unsupported currency: " + currency + ".");
+    }
+    var scheduledTransfer = new ScheduledTransfer(UUID.randomUUID().toString(),
+        command.transfer(), command.interval(), command.jitter());
+    scheduledTransfer.setNextExecutionAt(command.executeAt());
+    synchronized (scheduledTransfer) {
+      scheduledTransfers.put(scheduledTransfer.getScheduledTransferId(), scheduledTransfer);
+      arm(scheduledTransfer, jittered(scheduledTransfer, command.executeAt()));
+    }
+    log.info("Scheduled transfer {} for {}.", scheduledTransfer.getScheduledTransferId(),
+        command.executeAt());
+    return ScheduledTransferResponse.of(scheduledTransfer);
+  }
+
+  public ScheduledTransferResponse getScheduledTransfer(String scheduledTransferId) {
+    return ScheduledTransferResponse.of(find(scheduledTransferId));
+  }
+
+  /**
+   * Cancels a pending scheduled transfer. An execution already running or due completes, and
+   * starts the retention period once done.
+   * @param scheduledTransferId id of the scheduled transfer.
+   * @return the scheduled transfer, cancelled unless it had already finished.
+   */
+  public ScheduledTransferResponse cancel(String scheduledTransferId) {
+    ScheduledTransfer scheduledTransfer = find(scheduledTransferId);
+    synchronized (scheduledTransfer) {
+      if (scheduledTransfer.getStatus() == ScheduledTransferStatus.PENDING) {
+        scheduledTransfer.setStatus(ScheduledTransferStatus.CANCELLED);
+        scheduledTransfer.setNextExecutionAt(null);
+        // otherwise the entry already left the wheel, and its execution starts the retention
+        if (wheel.cancel(timeouts.get(scheduledTransferId))) {
+          retain(scheduledTransfer);
+        }
+      }
+    }
+    return ScheduledTransferResponse.of(scheduledTransfer);
+  }
+
+  public int pendingEntries() {
+    return wheel.size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    ticker.shutdownNow();
+    workers.shutdown();
+  }
+
+  private ScheduledTransfer find(String scheduledTransferId) {
+    ScheduledTransfer scheduledTransfer = scheduledTransfers.get(scheduledTransferId);
+    if (scheduledTransfer == null) {
+      throw new ScheduledTransferNotFoundException(
+          String.format("Scheduled transfer with id: %s not found.", scheduledTransferId));
+    }
+    return scheduledTransfer;
+  }
+
+  private void tick() {
+    try {
+      List<ScheduledTransfer> due = wheel.advanceTo(clock.millis());
+      for (int from = 0; from < due.size(); from += batchSize) {
+        List<ScheduledTransfer> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+        workers.execute(() -> batch.forEach(this::execute));
+      }
+    } catch (RuntimeException e) {
+      // keep the ticker alive, an exception would cancel its periodic execution
+      log.error("Failed to advance scheduled transfers.", e);
+    }
+  }
+
+  private void execute(ScheduledTransfer scheduledTransfer) {
+    synchronized (scheduledTransfer) {
+      if (scheduledTransfer.getStatus() != ScheduledTransferStatus.PENDING) {
+        if (scheduledTransfer.getPurgeAt() == null) {
+          // cancelled after it became due
+          retain(scheduledTransfer);
+        } else {
+          // finished or cancelled entries come back once their retention has elapsed
+          scheduledTransfers.remove(scheduledTransfer.getScheduledTransferId());
+          timeouts.remove(scheduledTransfer.getScheduledTransferId());
+        }
+        return;
+      }
+    }
+    String error = null;
+    try {
+      accountsService.transferAmount(scheduledTransfer.getTransfer());
+    } catch (RuntimeException e) {
+      error = e.getMessage();
+    }
+    synchronized (scheduledTransfer) {
+      scheduledTransfer.setExecutions(scheduledTransfer.getExecutions() + 1);
+      scheduledTransfer.setLastError(error);
+      if (scheduledTransfer.getStatus() != ScheduledTransferStatus.PENDING) {
+        // cancelled during the execution
+        retain(scheduledTransfer);
+        return;
+      }
+      if (scheduledTransfer.isRecurring()) {
+        Instant next = nextOccurrence(scheduledTransfer);
+        scheduledTransfer.setNextExecutionAt(next);
+        arm(scheduledTransfer, jittered(scheduledTransfer, next));
+      } else {
+        scheduledTransfer.setStatus(error == null
+            ? ScheduledTransferStatus.EXECUTED : ScheduledTransferStatus.FAILED);
+        scheduledTransfer.setNextExecutionAt(null);
+        retain(scheduledTransfer);
+      }
+    }
+  }
+
+  // first occurrence after now, the ones missed are skipped rather than executed in a burst
+  private Instant nextOccurrence(ScheduledTransfer scheduledTransfer) {
+    Duration interval = scheduledTransfer.getInterval();
+    Instant next = scheduledTransfer.getNextExecutionAt().plus(interval);
+    Instant now = clock.instant();
+    if (next.isBefore(now)) {
+      next = next.plus(interval.multipliedBy(Duration.between(next, now).dividedBy(interval) + 1));
+    }
+    return next;
+  }
+
+  // caller holds the monitor of the scheduled transfer
+  private void retain(ScheduledTransfer scheduledTransfer) {
+    Instant purgeAt = clock.instant().plus(retention);
+    scheduledTransfer.setPurgeAt(purgeAt);
+    arm(scheduledTransfer, purgeAt);
+  }
+
+  // caller holds the monitor of the scheduled transfer
+  private void arm(ScheduledTransfer scheduledTransfer, Instant at) {
+    timeouts.put(scheduledTransfer.getScheduledTransferId(),
+        wheel.schedule(scheduledTransfer, at.toEpochMilli()));
+  }
+
+  private static Instant jittered(ScheduledTransfer scheduledTransfer, Instant at) {
+    Duration jitter = scheduledTransfer.getJitter();
+    if (jitter == null || jitter.isZero()) {
+      return at;
+    }
+    return at.plusMillis(ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1));
+  }
+
+  private static Thread daemon(Runnable runnable, String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+}
@@ -0,0 +1,235 @@
+package com.dws.challenge.service.streaming;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.aggregate.BalanceChangeEvent;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fans balance changes out to the SSE subscriptions of the changed account.
+ * {@link #publish(Account)} is called by the transfer path while it holds the account monitor, so
+ * it never writes to a stream: it records the change on each subscription and hands the
+ * subscription to a small dispatcher pool, which does the writes.
+ * A watchdog thread, never blocked by a write, disconnects every subscription whose oldest pending
+ * change or write in flight is older than {@code accounts.stream.max-lag}; the client gets a fresh
+ * snapshot when it reconnects. A write to a stalled client blocks its dispatcher thread until the
+ * container's socket write timeout, so the watchdog adds a dispatcher thread for each write stalled
+ * longer than its period, and the other subscriptions keep being served.
+ */
+@Component
+@Slf4j
+public class BalanceChangePublisher {
+
+  // bounds the dispatcher threads added for stalled writes
+  private static final int MAX_STALLED_WRITES = 64;
+
+  private final Map<String, Set<BalanceSubscription>> subscriptionsByAccount =
+      new ConcurrentHashMap<>();
+  // every open subscription, and closed ones until their write in flight returns
+  private final Set<BalanceSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+  private final Set<String> accountsWithPendingCredits = ConcurrentHashMap.newKeySet();
+  private final long maxLagNanos;
+  private final long watchdogPeriodNanos;
+  private final int dispatchThreads;
+  private final ThreadPoolExecutor dispatcher;
+  private final ScheduledExecutorService watchdog;
+
+  public BalanceChangePublisher(
+      @Value("${accounts.stream.dispatch-threads:2}") int dispatchThreads,
+      @Value("${accounts.stream.max-lag:PT10S}") Duration maxLag) {
+    this.maxLagNanos = maxLag.toNanos();
+    this.watchdogPeriodNanos = Math.max(maxLagNanos / 4, TimeUnit.MILLISECONDS.toNanos(10));
+    this.dispatchThreads = dispatchThreads;
+    AtomicInteger threadCount = new AtomicInteger();
+    // the queue holds each subscription at most once, see BalanceSubscription#offer
+    this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 1, TimeUnit.MINUTES,
+        new LinkedBlockingQueue<>(), runnable -> daemon(runnable,
+            "balance-stream-" + threadCount.incrementAndGet()));
+    this.watchdog = Executors.newSingleThreadScheduledExecutor(
+        runnable -> daemon(runnable, "balance-stream-watchdog"));
+    this.watchdog.scheduleWithFixedDelay(this::checkLag, watchdogPeriodNanos, watchdogPeriodNanos,
+        TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Publishes the current balance of an account. The caller must hold the monitor of the account,
+   * which orders the changes of an account.
+   * @param account changed account.
+   */
+  public void publish(Account account) {
+    Set<BalanceSubscription> accountSubscriptions =
+        subscriptionsByAccount.get(account.getAccountId());
+    if (accountSubscriptions == null) {
+      return;
+    }
+    BalanceChangeEvent event =
+        new BalanceChangeEvent(account.getAccountId(), account.getBalance(), Instant.now());
+    long now = System.nanoTime();
+    for (BalanceSubscription subscription : accountSubscriptions) {
+      if (subscription.offer(event, now)) {
+        dispatch(() -> drain(subscription));
+      }
+    }
+  }
+
+  /**
+   * Records that an account received credits through the hot account lane, which does not hold
+   * its monitor and so cannot publish its balance. Accounts without subscribers are not recorded.
+   * @param accountId credited account.
+   */
+  public void publishPendingCredits(String accountId) {
+    // a read only check in the steady state, the account is usually recorded already
+    if (subscriptionsByAccount.containsKey(accountId)
+        && !accountsWithPendingCredits.contains(accountId)) {
+      accountsWithPendingCredits.add(accountId);
+    }
+  }
+
+  /**
+   * Takes the accounts recorded by {@link #publishPendingCredits} since the previous call.
+   */
+  List<String> takeAccountsWithPendingCredits() {
+    List<String> accountIds = new ArrayList<>();
+    for (String accountId : accountsWithPendingCredits) {
+      if (accountsWithPendingCredits.remove(accountId)) {
+        accountIds.add(accountId);
+      }
+    }
+    return accountIds;
+  }
+
+  void subscribe(BalanceSubscription subscription) {
+    subscription.emitter().onCompletion(() -> unsubscribe(subscription));
+    subscription.emitter().onTimeout(() -> unsubscribe(subscription));
+    subscription.emitter().onError(e -> unsubscribe(subscription));
+    subscriptions.add(subscription);
+    for (String accountId : subscription.accountIds()) {
+      subscriptionsByAccount.computeIfAbsent(accountId, id -> new CopyOnWriteArraySet<>())
+          .add(subscription);
+    }
+  }
+
+  /**
+   * Publishes the current balance of an account to one subscription only. The caller must hold the
+   * monitor of the account.
+   */
+  void publishTo(BalanceSubscription subscription, Account account) {
+    BalanceChangeEvent event =
+        new BalanceChangeEvent(account.getAccountId(), account.getBalance(), Instant.now());
+    if (subscription.offer(event, System.nanoTime())) {
+      dispatch(() -> drain(subscription));
+    }
+  }
+
+  void unsubscribe(BalanceSubscription subscription) {
+    subscription.close();
+    for (String accountId : subscription.accountIds()) {
+      subscriptionsByAccount.computeIfPresent(accountId, (id, accountSubscriptions) -> {
+        accountSubscriptions.remove(subscription);
+        return accountSubscriptions.isEmpty() ? null : accountSubscriptions;
+      });
+    }
+  }
+
+  public int getSubscriptionCount(String accountId) {
+    Set<BalanceSubscription> accountSubscriptions = subscriptionsByAccount.get(accountId);
+    return accountSubscriptions == null ? 0 : accountSubscriptions.size();
+  }
+
+  int getDispatchThreads() {
+    return dispatcher.getCorePoolSize();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    watchdog.shutdownNow();
+    dispatcher.shutdownNow();
+  }
+
+  private void drain(BalanceSubscription subscription) {
+    try {
+      subscription.drain();
+      if (subscription.isClosed()) {
+        // closed by the watchdog while writing, which left the completion to this writer
+        subscription.complete(null);
+      }
+    } catch (Exception e) {
+      log.debug("Balance stream of {} failed, disconnecting.", subscription.accountIds(), e);
+      unsubscribe(subscription);
+      subscription.complete(e);
+    }
+  }
+
+  private void checkLag() {
+    try {
+      long now = System.nanoTime();
+      int stalledWrites = 0;
+      for (BalanceSubscription subscription : subscriptions) {
+        if (subscription.writingFor(now) > watchdogPeriodNanos) {
+          stalledWrites++;
+        }
+        if (subscription.isClosed()) {
+          if (!subscription.isWriting()) {
+            subscriptions.remove(subscription);
+          }
+        } else if (subscription.lag(now) > maxLagNanos
+            || subscription.writingFor(now) > maxLagNanos) {
+          disconnect(subscription);
+        }
+      }
+      resizeDispatcher(dispatchThreads + Math.min(stalledWrites, MAX_STALLED_WRITES));
+    } catch (RuntimeException e) {
+      // keep the watchdog alive, an exception would cancel its periodic execution
+      log.error("Failed to check balance stream lag.", e);
+    }
+  }
+
+  private void disconnect(BalanceSubscription subscription) {
+    log.warn("Disconnecting balance stream of {}, lagging behind.", subscription.accountIds());
+    unsubscribe(subscription);
+    if (!subscription.isWriting()) {
+      subscription.complete(null);
+    }
+  }
+
+  private void resizeDispatcher(int threads) {
+    if (threads > dispatcher.getMaximumPoolSize()) {
+      dispatcher.setMaximumPoolSize(threads);
+      dispatcher.setCorePoolSize(threads);
+    } else if (threads < dispatcher.getCorePoolSize()) {
+      dispatcher.setCorePoolSize(threads);
+      dispatcher.setMaximumPoolSize(threads);
+    }
+  }
+
+  private void dispatch(Runnable task) {
+    try {
+      dispatcher.execute(task);
+    } catch (RejectedExecutionException e) {
+      log.debug("Balance stream dispatcher is shut down.");
+    }
+  }
+
+  private static Thread daemon(Runnable runnable, String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+}
@@ -0,0 +1,90 @@
+package com.dws.challenge.service.streaming;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.exception.AccountNotFoundException;
+import com.dws.challenge.logging.LogRateLimiter;
+import com.dws.challenge.repository.AccountLocks;
+import com.dws.challenge.service.AccountsService;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Opens SSE streams of balance changes for a set of accounts. Each stream starts with the current
+ * balance of every account, followed by the changes published by {@link BalanceChangePublisher}.
+ */
+@Service
+@Slf4j
+public class BalanceStreamService {
+
+  private final AccountsService accountsService;
+  private final BalanceChangePublisher balanceChangePublisher;
+  private final int maxAccounts;
+  private final Duration timeout;
+  // per rejection reason, at most 10 rejections logged per second
+  private final LogRateLimiter rejectionLogLimiter = new LogRateLimiter(10, Duration.ofSeconds(1));
+
+  public BalanceStreamService(AccountsService accountsService,
+                              BalanceChangePublisher balanceChangePublisher,
+                              @Value("${accounts.stream.max-accounts:100}") int maxAccounts,
+                              @Value("${accounts.stream.timeout:PT30M}") Duration timeout) {
+    this.accountsService = accountsService;
+    this.balanceChangePublisher = balanceChangePublisher;
+    this.maxAccounts = maxAccounts;
+    this.timeout = timeout;
+  }
+
+  /**
+   * Subscribes to the balance changes of the given accounts.
+   * @param accountIds ids of existing accounts, at most {@code accounts.stream.max-accounts}.
+   * @return the SSE stream.
+   */
+  public SseEmitter subscribe(List<String> accountIds) {
+    Set<String> ids = new LinkedHashSet<>(accountIds);
+    if (ids.isEmpty() || ids.size() > maxAccounts) {
+      logRejection("account_count", null);
+      throw new IllegalArgumentException(
+          String.format("Between 1 and %d accounts can be subscribed to.", maxAccounts));
+    }
+    for (String accountId : ids) {
+      validateAccount(accountsService.getAccountsRepository().getAccount(accountId), accountId);
+    }
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    BalanceSubscription subscription = new BalanceSubscription(emitter, Set.copyOf(ids));
+    balanceChangePublisher.subscribe(subscription);
+    // snapshots are taken under the account monitor after subscribing, so no change is missed or
+    // overtaken by an older balance
+    for (String accountId : ids) {
+      synchronized (AccountLocks.lockFor(accountId)) {
+        balanceChangePublisher.publishTo(subscription, accountsService.getAccount(accountId));
+      }
+    }
+    return emitter;
+  }
+
+  private void validateAccount(Account account, String accountId) {
+    if (Objects.isNull(account)) {
+      logRejection("account_not_found", accountId);
+      throw new AccountNotFoundException(
+          String.format("Account with id: %s not found.", accountId));
+    }
+  }
+
+  // clients can trigger rejections at will, so they are logged as sampled structured events
+  private void logRejection(String reason, String accountId) {
+    long suppressed = rejectionLogLimiter.tryAcquire(reason);
+    if (suppressed >= 0) {
+      log.atWarn().setMessage("stream.rejected")
+          .addKeyValue("reason", reason)
+          .addKeyValue("accountId", accountId)
+          .addKeyValue("suppressed", suppressed)
+          .log();
+    }
+  }
+}
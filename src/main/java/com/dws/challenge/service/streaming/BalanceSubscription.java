@@ -0,0 +1,136 @@
+package com.dws.challenge.service.streaming;
+
+import com.dws.challenge.domain.aggregate.BalanceChangeEvent;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One SSE stream and the balance changes not yet written to it.
+ * Pending changes are kept per account, latest value wins, so the buffer never holds more entries
+ * than subscribed accounts. At most one dispatcher drains a subscription at a time, which keeps
+ * the changes of an account in order on the stream.
+ * A write in flight is marked before the subscription is checked for closing, and closing checks
+ * the mark after setting the flag, so a closed subscription is either not written to anymore or
+ * completed by the writer once its write returns; the closer never waits for a stalled write.
+ */
+final class BalanceSubscription {
+
+  private final SseEmitter emitter;
+  private final Set<String> accountIds;
+  private final Map<String, BalanceChangeEvent> pending = new ConcurrentHashMap<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  // System.nanoTime() of the oldest change not yet written, 0 when nothing is pending
+  private final AtomicLong pendingSince = new AtomicLong();
+  private final AtomicLong eventIds = new AtomicLong();
+  // System.nanoTime() at the start of the write in flight, 0 when not writing
+  private final AtomicLong writeStartedAt = new AtomicLong();
+  private final AtomicBoolean completed = new AtomicBoolean();
+  private volatile boolean closed;
+
+  BalanceSubscription(SseEmitter emitter, Set<String> accountIds) {
+    this.emitter = emitter;
+    this.accountIds = accountIds;
+  }
+
+  SseEmitter emitter() {
+    return emitter;
+  }
+
+  Set<String> accountIds() {
+    return accountIds;
+  }
+
+  boolean isClosed() {
+    return closed;
+  }
+
+  void close() {
+    closed = true;
+  }
+
+  boolean isWriting() {
+    return writeStartedAt.get() != 0;
+  }
+
+  /**
+   * @return how long the write in flight has been running, in nanoseconds, 0 when not writing.
+   */
+  long writingFor(long now) {
+    long since = writeStartedAt.get();
+    return since == 0 ? 0 : now - since;
+  }
+
+  /**
+   * Completes the stream, once.
+   * @param error failure to complete the stream with, null for a regular completion.
+   */
+  void complete(Throwable error) {
+    if (completed.compareAndSet(false, true)) {
+      if (error == null) {
+        emitter.complete();
+      } else {
+        emitter.completeWithError(error);
+      }
+    }
+  }
+
+  /**
+   * Stores a change, replacing any pending change of the same account.
+   * @return true if the caller must schedule a drain of this subscription.
+   */
+  boolean offer(BalanceChangeEvent event, long now) {
+    pending.put(event.accountId(), event);
+    pendingSince.compareAndSet(0, now);
+    return scheduled.compareAndSet(false, true);
+  }
+
+  /**
+   * @return how long the oldest pending change has been waiting, in nanoseconds.
+   */
+  long lag(long now) {
+    long since = pendingSince.get();
+    return since == 0 ? 0 : now - since;
+  }
+
+  /**
+   * Writes the pending changes until none is left or the subscription is closed. Only called by
+   * the dispatcher that won {@link #offer}.
+   */
+  void drain() throws Exception {
+    while (true) {
+      pendingSince.set(0);
+      for (String accountId : pending.keySet()) {
+        BalanceChangeEvent event = pending.remove(accountId);
+        if (event != null && !write(event)) {
+          return;
+        }
+      }
+      scheduled.set(false);
+      // a change offered after the loop above saw scheduled still set, so it is ours to write
+      if (pending.isEmpty() || !scheduled.compareAndSet(false, true)) {
+        return;
+      }
+    }
+  }
+
+  private boolean write(BalanceChangeEvent event) throws Exception {
+    long now = System.nanoTime();
+    writeStartedAt.set(now == 0 ? 1 : now);
+    try {
+      if (closed) {
+        return false;
+      }
+      emitter.send(SseEmitter.event()
+          .id(Long.toString(eventIds.incrementAndGet()))
+          .name("balance")
+          .data(event));
+      return true;
+    } finally {
+      writeStartedAt.set(0);
+    }
+  }
+}
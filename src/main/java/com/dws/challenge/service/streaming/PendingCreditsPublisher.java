@@ -0,0 +1,59 @@
+package com.dws.challenge.service.streaming;
+
+import com.dws.challenge.service.AccountsService;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the balance of subscribed accounts credited through the hot account lane.
+ * Those credits do not take the payee monitor, so they only record the payee on
+ * {@link BalanceChangePublisher}; every {@code accounts.stream.pending-credits-interval} this
+ * component folds the pending credits of the recorded accounts, which publishes their balance
+ * under the account monitor. A hot account is thus locked at most once per interval for its
+ * subscribers, however many credits it receives.
+ */
+@Component
+@Slf4j
+public class PendingCreditsPublisher {
+
+  private final AccountsService accountsService;
+  private final BalanceChangePublisher balanceChangePublisher;
+  private final ScheduledExecutorService publisher;
+
+  public PendingCreditsPublisher(AccountsService accountsService,
+                                 BalanceChangePublisher balanceChangePublisher,
+                                 @Value("${accounts.stream.pending-credits-interval:PT0.1S}") Duration interval) {
+    this.accountsService = accountsService;
+    this.balanceChangePublisher = balanceChangePublisher;
+    this.publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "pending-credits-publisher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.publisher.scheduleWithFixedDelay(this::publishPendingCredits, interval.toMillis(),
+        interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  void publishPendingCredits() {
+    try {
+      for (String accountId : balanceChangePublisher.takeAccountsWithPendingCredits()) {
+        // folds the pending credits and publishes the balance under the account monitor
+        accountsService.getAccount(accountId);
+      }
+    } catch (RuntimeException e) {
+      // keep the publisher alive, an exception would cancel its periodic execution
+      log.error("Failed to publish pending credits.", e);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    publisher.shutdownNow();
+  }
+}
@@ -1,6 +1,8 @@
 package com.dws.challenge.web;
 
 import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.aggregate.AccountBalanceResponse;
+import com.dws.challenge.domain.aggregate.LedgerTotalsResponse;
 import com.dws.challenge.domain.aggregate.TransferResponse;
 import com.dws.challenge.domain.command.TransferAmountCommand;
 import com.dws.challenge.exception.DuplicateAccountIdException;
@@ -11,7 +13,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -26,11 +30,24 @@ import org.springframework.web.bind.annotation.RestController;
 public class AccountsController {
 
   private final AccountsService accountsService;
+  private final RequestBodyValidator requestBodyValidator;
 
+  /**
+   * Validates the request bodies with the precompiled {@link RequestBodyValidator} instead of
+   * the reflective Bean Validation one.
+   * @param binder binder created for a handler method argument.
+   */
+  @InitBinder
+  public void initBinder(WebDataBinder binder) {
+    Object target = binder.getTarget();
+    if (target != null && requestBodyValidator.supports(target.getClass())) {
+      binder.setValidator(requestBodyValidator);
+    }
+  }
 
   @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<Object> createAccount(@RequestBody @Valid Account account) {
-    log.info("Creating account {}", account);
+    log.atDebug().setMessage("account.create").addKeyValue("accountId", account.getAccountId()).log();
 
     try {
       this.accountsService.createAccount(account);
@@ -43,10 +60,30 @@ public class AccountsController {
 
   @GetMapping(path = "/{accountId}")
   public Account getAccount(@PathVariable String accountId) {
-    log.info("Retrieving account for id {}", accountId);
+    log.atDebug().setMessage("account.get").addKeyValue("accountId", accountId).log();
     return this.accountsService.getAccount(accountId);
   }
 
+  /**
+   * Api endpoint returning the ledger balance of an account and the part of it available to
+   * spend, that is not reserved by holds.
+   * @param accountId id of the account.
+   * @return ledger and available balance of the account.
+   */
+  @GetMapping(path = "/{accountId}/balance")
+  public AccountBalanceResponse getAccountBalance(@PathVariable String accountId) {
+    return this.accountsService.getAccountBalance(accountId);
+  }
+
+  /**
+   * Api endpoint returning the book balance of all accounts and the number of transfers, read from
+   * incrementally maintained aggregates.
+   * @return ledger totals.
+   */
+  @GetMapping(path = "/ledger/totals")
+  public LedgerTotalsResponse getLedgerTotals() {
+    return this.accountsService.getLedgerTotals();
+  }
 
   /**
    * Api endpoint to initiate transfer between payer and receiver bank.
@@ -55,8 +92,11 @@ public class AccountsController {
    */
   @PostMapping("/transfer")
   public ResponseEntity<TransferResponse> transferAmount(@RequestBody @Valid TransferAmountCommand transferCommand){
-    log.info("Initiating amount transfer.");
-    log.debug("Initiating amount transfer, with payload : {}",transferCommand);
+    log.atDebug().setMessage("transfer.request")
+        .addKeyValue("from", transferCommand.accountFromId())
+        .addKeyValue("to", transferCommand.accountToId())
+        .addKeyValue("amount", transferCommand.amount())
+        .log();
     return ResponseEntity.ok(accountsService.transferAmount(transferCommand));
   }
 
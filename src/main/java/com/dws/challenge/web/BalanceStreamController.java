@@ -0,0 +1,34 @@
+package com.dws.challenge.web;
+
+import com.dws.challenge.service.streaming.BalanceStreamService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/v1/accounts/balances")
+@Slf4j
+@RequiredArgsConstructor
+public class BalanceStreamController {
+
+  private final BalanceStreamService balanceStreamService;
+
+  /**
+   * Api endpoint streaming balance changes as Server-Sent Events named {@code balance}, starting
+   * with the current balance of every account. Slow clients receive only the latest balance of an
+   * account. No {@code produces} is declared so that errors are still rendered as JSON, the
+   * emitter sets the {@code text/event-stream} content type itself.
+   * @param accountIds comma separated ids of the accounts to follow.
+   * @return the event stream.
+   */
+  @GetMapping(path = "/stream")
+  public SseEmitter streamBalances(@RequestParam List<String> accountIds) {
+    log.debug("Opening balance stream for accounts : {}", accountIds);
+    return balanceStreamService.subscribe(accountIds);
+  }
+}
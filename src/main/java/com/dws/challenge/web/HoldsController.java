@@ -0,0 +1,58 @@
+package com.dws.challenge.web;
+
+import com.dws.challenge.domain.aggregate.HoldResponse;
+import com.dws.challenge.domain.command.CaptureHoldCommand;
+import com.dws.challenge.domain.command.PlaceHoldCommand;
+import com.dws.challenge.service.holds.HoldsService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/accounts/holds")
+@Slf4j
+@RequiredArgsConstructor
+public class HoldsController {
+
+  private final HoldsService holdsService;
+
+  /**
+   * Api endpoint to reserve funds on the payer account for a later capture.
+   * @param command payer and payee accounts, amount and optional time to live of the hold.
+   * @return ResponseEntity with the active hold, which 201 CREATED status code.
+   */
+  @PostMapping
+  public ResponseEntity<HoldResponse> placeHold(@RequestBody @Valid PlaceHoldCommand command) {
+    log.debug("Placing hold, with payload : {}", command);
+    return new ResponseEntity<>(holdsService.placeHold(command), HttpStatus.CREATED);
+  }
+
+  /**
+   * Api endpoint to transfer all or part of a hold to its payee, releasing the remainder.
+   * @param holdId id of the hold.
+   * @param command optional amount to capture, the full hold without body or amount.
+   * @return the captured hold.
+   */
+  @PostMapping("/{holdId}/capture")
+  public HoldResponse captureHold(@PathVariable String holdId,
+                                  @RequestBody(required = false) @Valid CaptureHoldCommand command) {
+    return holdsService.captureHold(holdId, command);
+  }
+
+  /**
+   * Api endpoint to release a hold, making its funds available again.
+   * @param holdId id of the hold.
+   * @return the released hold.
+   */
+  @PostMapping("/{holdId}/release")
+  public HoldResponse releaseHold(@PathVariable String holdId) {
+    return holdsService.releaseHold(holdId);
+  }
+}
@@ -0,0 +1,87 @@
+package com.dws.challenge.web;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import java.math.BigDecimal;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Precompiled equivalent of the Bean Validation constraints declared on {@link Account} and
+ * {@link TransferAmountCommand}.
+ * These two bodies are validated on every request, so their checks are written out by hand instead
+ * of letting Hibernate Validator walk the constraint metadata. Rejections use the same codes and
+ * messages as the annotations, and still surface as {@code MethodArgumentNotValidException}.
+ */
+@Component
+public class RequestBodyValidator implements Validator {
+
+  private static final String NOT_NULL = "NotNull";
+  private static final String NOT_NULL_MESSAGE = "must not be null";
+  private static final String CURRENCY = "currency";
+  private static final String CURRENCY_MESSAGE = "must be an ISO 4217 currency code";
+
+  @Override
+  public boolean supports(Class<?> clazz) {
+    return Account.class == clazz || TransferAmountCommand.class == clazz;
+  }
+
+  @Override
+  public void validate(Object target, Errors errors) {
+    if (target instanceof Account account) {
+      validateAccount(account, errors);
+    } else if (target instanceof TransferAmountCommand command) {
+      validateTransferAmountCommand(command, errors);
+    }
+  }
+
+  private void validateAccount(Account account, Errors errors) {
+    if (account.getAccountId() == null) {
+      errors.rejectValue("accountId", NOT_NULL, NOT_NULL_MESSAGE);
+    }
+    if (account.getAccountId() == null || account.getAccountId().isEmpty()) {
+      errors.rejectValue("accountId", "NotEmpty", "must not be empty");
+    }
+    if (account.getBalance() == null) {
+      errors.rejectValue("balance", NOT_NULL, NOT_NULL_MESSAGE);
+    } else if (account.getBalance().signum() < 0) {
+      errors.rejectValue("balance", "Min", "Initial balance must be positive.");
+    }
+    if (account.getCurrency() != null && !isCurrencyCode(account.getCurrency())) {
+      errors.rejectValue(CURRENCY, "Pattern", CURRENCY_MESSAGE);
+    }
+  }
+
+  private void validateTransferAmountCommand(TransferAmountCommand command, Errors errors) {
+    if (command.accountFromId() == null) {
+      errors.rejectValue("accountFromId", NOT_NULL, "AccountFromId must not be null");
+    }
+    if (command.accountToId() == null) {
+      errors.rejectValue("accountToId", NOT_NULL, "AccountFromId must not be null");
+    }
+    BigDecimal amount = command.amount();
+    if (amount == null) {
+      errors.rejectValue("amount", NOT_NULL, "Transfer amount must not be null");
+    } else if (amount.signum() <= 0) {
+      errors.rejectValue("amount", "DecimalMin", "Transfer amount must be greater than zero");
+    }
+    if (command.currency() != null && !isCurrencyCode(command.currency())) {
+      errors.rejectValue(CURRENCY, "Pattern", CURRENCY_MESSAGE);
+    }
+  }
+
+  // same as the [A-Z]{3} pattern of the annotations
+  private static boolean isCurrencyCode(String currency) {
+    if (currency.length() != 3) {
+      return false;
+    }
+    for (int i = 0; i < 3; i++) {
+      char c = currency.charAt(i);
+      if (c < 'A' || c > 'Z') {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,50 @@
+package com.dws.challenge.web;
+
+import com.dws.challenge.domain.aggregate.ScheduledTransferResponse;
+import com.dws.challenge.domain.command.ScheduleTransferCommand;
+import com.dws.challenge.service.scheduling.ScheduledTransferService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/accounts/transfer/scheduled")
+@Slf4j
+@RequiredArgsConstructor
+public class ScheduledTransfersController {
+
+  private final ScheduledTransferService scheduledTransferService;
+
+  /**
+   * Api endpoint to schedule a transfer at a future time, optionally repeated.
+   * @param command transfer with its execution time, recurrence interval and jitter.
+   * @return ResponseEntity with the pending scheduled transfer, which 201 CREATED status code.
+   */
+  @PostMapping
+  public ResponseEntity<ScheduledTransferResponse> scheduleTransfer(
+      @RequestBody @Valid ScheduleTransferCommand command) {
+    log.debug("Scheduling transfer, with payload : {}", command);
+    return new ResponseEntity<>(scheduledTransferService.schedule(command), HttpStatus.CREATED);
+  }
+
+  @GetMapping(path = "/{scheduledTransferId}")
+  public ScheduledTransferResponse getScheduledTransfer(@PathVariable String scheduledTransferId) {
+    return scheduledTransferService.getScheduledTransfer(scheduledTransferId);
+  }
+
+  @DeleteMapping(path = "/{scheduledTransferId}")
+  public ScheduledTransferResponse cancelScheduledTransfer(
+      @PathVariable String scheduledTransferId) {
+    log.info("Cancelling scheduled transfer {}", scheduledTransferId);
+    return scheduledTransferService.cancel(scheduledTransferId);
+  }
+}
@@ -0,0 +1,82 @@
+package com.dws.challenge.web.json;
+
+import com.dws.challenge.domain.Account;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Hand-written JSON codec for {@link Account}, producing {@code {"accountId":..,"balance":..}}, followed
+ * by {@code "currency"} for accounts that have one.
+ */
+final class AccountJsonCodec {
+
+  static final String ACCOUNT_ID = "accountId";
+  static final String BALANCE = "balance";
+  static final String CURRENCY = "currency";
+
+  // field names pre-encoded once, as Jackson's bean serializers do
+  private static final SerializedString ACCOUNT_ID_NAME = new SerializedString(ACCOUNT_ID);
+  private static final SerializedString BALANCE_NAME = new SerializedString(BALANCE);
+  private static final SerializedString CURRENCY_NAME = new SerializedString(CURRENCY);
+
+  private AccountJsonCodec() {
+  }
+
+  static final class Serializer extends StdSerializer<Account> {
+
+    Serializer() {
+      super(Account.class);
+    }
+
+    @Override
+    public void serialize(Account account, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject(account);
+      gen.writeFieldName(ACCOUNT_ID_NAME);
+      gen.writeString(account.getAccountId());
+      gen.writeFieldName(BALANCE_NAME);
+      BigDecimalJsonWriter.write(gen, account.getBalance());
+      if (account.getCurrency() != null) {
+        gen.writeFieldName(CURRENCY_NAME);
+        gen.writeString(account.getCurrency());
+      }
+      gen.writeEndObject();
+    }
+  }
+
+  static final class Deserializer extends StdDeserializer<Account> {
+
+    Deserializer() {
+      super(Account.class);
+    }
+
+    @Override
+    public Account deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+      if (!JsonFields.enterObject(p)) {
+        return (Account) ctxt.handleUnexpectedToken(Account.class, p);
+      }
+      String accountId = null;
+      BigDecimal balance = null;
+      String currency = null;
+      for (; p.currentToken() == JsonToken.FIELD_NAME; p.nextToken()) {
+        String field = p.currentName();
+        p.nextToken();
+        switch (field) {
+          case ACCOUNT_ID -> accountId = JsonFields.readString(p, ctxt);
+          case BALANCE -> balance = JsonFields.readDecimal(p, ctxt);
+          case CURRENCY -> currency = JsonFields.readString(p, ctxt);
+          default -> ctxt.handleUnknownProperty(p, this, Account.class, field);
+        }
+      }
+      return new Account(accountId, balance, currency);
+    }
+  }
+}
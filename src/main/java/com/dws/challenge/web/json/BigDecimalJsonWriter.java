@@ -0,0 +1,75 @@
+package com.dws.challenge.web.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Writes {@link BigDecimal} amounts straight into a {@link JsonGenerator} without going through
+ * {@link BigDecimal#toString()}.
+ * Amounts whose unscaled value fits in a long and that {@code toString()} would render in plain
+ * notation are formatted digit by digit into a per-thread buffer; anything else falls back to
+ * {@link JsonGenerator#writeNumber(BigDecimal)}, so the output is always identical to Jackson's.
+ */
+final class BigDecimalJsonWriter {
+
+  // sign + 19 digits + "0." + up to 6 leading zeros, see BigDecimal#toString() plain notation rules
+  private static final int BUFFER_SIZE = 32;
+
+  private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[BUFFER_SIZE]);
+
+  private BigDecimalJsonWriter() {
+  }
+
+  static void write(JsonGenerator gen, BigDecimal value) throws IOException {
+    if (value == null) {
+      gen.writeNull();
+      return;
+    }
+    int scale = value.scale();
+    int precision = value.precision();
+    if (scale < 0 || precision > 18 || precision - 1 - scale < -6) {
+      gen.writeNumber(value);
+      return;
+    }
+    char[] buffer = BUFFER.get();
+    int length = format(value.unscaledValue().longValue(), precision, scale, buffer);
+    gen.writeNumber(buffer, 0, length);
+  }
+
+  /**
+   * Formats {@code unscaled * 10^-scale} the way {@link BigDecimal#toString()} does for values
+   * with a non-negative scale and an adjusted exponent of at least -6.
+   */
+  static int format(long unscaled, int precision, int scale, char[] buffer) {
+    int pos = 0;
+    if (unscaled < 0) {
+      buffer[pos++] = '-';
+      unscaled = -unscaled;
+    }
+    int integerDigits = precision - scale;
+    if (integerDigits <= 0) {
+      buffer[pos++] = '0';
+      buffer[pos++] = '.';
+      for (int i = integerDigits; i < 0; i++) {
+        buffer[pos++] = '0';
+      }
+      return writeDigits(unscaled, precision, buffer, pos, -1);
+    }
+    return writeDigits(unscaled, precision, buffer, pos, scale == 0 ? -1 : integerDigits);
+  }
+
+  // writes exactly 'digits' digits of value, inserting a '.' after 'pointAfter' digits if >= 0
+  private static int writeDigits(long value, int digits, char[] buffer, int start, int pointAfter) {
+    int end = start + digits + (pointAfter >= 0 ? 1 : 0);
+    int pos = end;
+    for (int written = 0; written < digits; written++) {
+      if (pointAfter >= 0 && written == digits - pointAfter) {
+        buffer[--pos] = '.';
+      }
+      buffer[--pos] = (char) ('0' + (value % 10));
+      value /= 10;
+    }
+    return end;
+  }
+}
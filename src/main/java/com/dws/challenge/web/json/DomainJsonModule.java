@@ -0,0 +1,24 @@
+package com.dws.challenge.web.json;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.aggregate.TransferResponse;
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jackson module registering the hand-written codecs of the domain types exchanged on every
+ * REST call, replacing the reflection based bean (de)serializers Jackson would build for them.
+ * Spring Boot picks up every {@code Module} bean and registers it on the shared ObjectMapper.
+ */
+@Component
+public class DomainJsonModule extends SimpleModule {
+
+  public DomainJsonModule() {
+    super("DomainJsonModule");
+    addSerializer(Account.class, new AccountJsonCodec.Serializer());
+    addDeserializer(Account.class, new AccountJsonCodec.Deserializer());
+    addDeserializer(TransferAmountCommand.class, new TransferAmountCommandJsonCodec.Deserializer());
+    addSerializer(TransferResponse.class, new TransferResponseJsonCodec.Serializer());
+  }
+}
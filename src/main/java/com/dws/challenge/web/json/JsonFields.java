@@ -0,0 +1,54 @@
+package com.dws.challenge.web.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Field readers shared by the domain deserializers.
+ * The common token shapes are decoded directly from the parser; every other shape is delegated to
+ * Jackson's own scalar deserializers so coercion rules stay exactly as configured.
+ */
+final class JsonFields {
+
+  private JsonFields() {
+  }
+
+  static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_STRING) {
+      return p.getText();
+    }
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return ctxt.readValue(p, String.class);
+  }
+
+  static BigDecimal readDecimal(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+      return p.getDecimalValue();
+    }
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return ctxt.readValue(p, BigDecimal.class);
+  }
+
+  /**
+   * Moves the parser onto the first field name of an object.
+   *
+   * @return false if the current token does not start an object.
+   */
+  static boolean enterObject(JsonParser p) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      p.nextToken();
+      return true;
+    }
+    return token == JsonToken.FIELD_NAME || token == JsonToken.END_OBJECT;
+  }
+}
@@ -0,0 +1,54 @@
+package com.dws.challenge.web.json;
+
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Hand-written JSON decoder for the {@link TransferAmountCommand} request body.
+ */
+final class TransferAmountCommandJsonCodec {
+
+  static final String ACCOUNT_FROM_ID = "accountFromId";
+  static final String ACCOUNT_TO_ID = "accountToId";
+  static final String AMOUNT = "amount";
+  static final String CURRENCY = "currency";
+
+  private TransferAmountCommandJsonCodec() {
+  }
+
+  static final class Deserializer extends StdDeserializer<TransferAmountCommand> {
+
+    Deserializer() {
+      super(TransferAmountCommand.class);
+    }
+
+    @Override
+    public TransferAmountCommand deserialize(JsonParser p, DeserializationContext ctxt)
+        throws IOException {
+      if (!JsonFields.enterObject(p)) {
+        return (TransferAmountCommand) ctxt.handleUnexpectedToken(TransferAmountCommand.class, p);
+      }
+      String accountFromId = null;
+      String accountToId = null;
+      BigDecimal amount = null;
+      String currency = null;
+      for (; p.currentToken() == JsonToken.FIELD_NAME; p.nextToken()) {
+        String field = p.currentName();
+        p.nextToken();
+        switch (field) {
+          case ACCOUNT_FROM_ID -> accountFromId = JsonFields.readString(p, ctxt);
+          case ACCOUNT_TO_ID -> accountToId = JsonFields.readString(p, ctxt);
+          case AMOUNT -> amount = JsonFields.readDecimal(p, ctxt);
+          case CURRENCY -> currency = JsonFields.readString(p, ctxt);
+          default -> ctxt.handleUnknownProperty(p, this, TransferAmountCommand.class, field);
+        }
+      }
+      return new TransferAmountCommand(accountFromId, accountToId, amount, currency);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.dws.challenge.web.json;
+
+import com.dws.challenge.domain.aggregate.TransferResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Hand-written JSON encoder for the {@link TransferResponse} returned by a successful transfer.
+ */
+final class TransferResponseJsonCodec {
+
+  static final String STATUS = "status";
+  static final String TRANSFERRED_AMOUNT = "transferredAmount";
+
+  private static final SerializedString STATUS_NAME = new SerializedString(STATUS);
+  private static final SerializedString TRANSFERRED_AMOUNT_NAME =
+      new SerializedString(TRANSFERRED_AMOUNT);
+
+  private TransferResponseJsonCodec() {
+  }
+
+  static final class Serializer extends StdSerializer<TransferResponse> {
+
+    Serializer() {
+      super(TransferResponse.class);
+    }
+
+    @Override
+    public void serialize(TransferResponse response, JsonGenerator gen,
+        SerializerProvider provider) throws IOException {
+      gen.writeStartObject(response);
+      gen.writeFieldName(STATUS_NAME);
+      if (response.status() == null) {
+        gen.writeNull();
+      } else {
+        gen.writeString(response.status().name());
+      }
+      gen.writeFieldName(TRANSFERRED_AMOUNT_NAME);
+      BigDecimalJsonWriter.write(gen, response.transferredAmount());
+      gen.writeEndObject();
+    }
+  }
+}
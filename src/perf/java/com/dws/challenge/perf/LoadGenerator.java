@@ -0,0 +1,242 @@
+package com.dws.challenge.perf;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Open-loop load generator for a locally started instance.
+ * Requests are started on a fixed schedule whatever the response times are, and every latency is
+ * measured from the time the request was scheduled to start rather than from the time it was
+ * actually sent. A stalled server therefore shows up in the percentiles for every request that
+ * should have been sent during the stall, instead of being hidden by a client that waited
+ * (coordinated omission).
+ *
+ * <p>Accounts are created through the API first. The traffic then mixes account reads, regular
+ * transfers and transfers expected to be rejected for insufficient funds or an unknown account,
+ * with account popularity following a Zipf distribution.
+ */
+public class LoadGenerator {
+
+  enum Operation {
+    READ(200), TRANSFER(200), INSUFFICIENT_FUNDS(500), UNKNOWN_ACCOUNT(500);
+
+    private final int expectedStatus;
+
+    Operation(int expectedStatus) {
+      this.expectedStatus = expectedStatus;
+    }
+  }
+
+  private static final int SETUP_CONCURRENCY = 64;
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+  private final LoadGeneratorOptions options;
+  private final HttpClient client;
+  private final String[] accountIds;
+  private final ZipfDistribution popularity;
+  private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> unexpectedStatus = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> failures = new EnumMap<>(Operation.class);
+  // how late the generator itself started requests, to tell a slow client from a slow server
+  private final Recorder sendLag = new Recorder(3);
+  private final LongAdder inFlight = new LongAdder();
+  // requests scheduled before this time are warmup and not recorded
+  private volatile long recordingStart;
+
+  LoadGenerator(LoadGeneratorOptions options) {
+    this.options = options;
+    this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    String runId = Long.toString(System.currentTimeMillis(), 36);
+    this.accountIds = new String[options.accounts()];
+    for (int i = 0; i < accountIds.length; i++) {
+      accountIds[i] = "load-" + runId + "-" + i;
+    }
+    this.popularity = new ZipfDistribution(options.accounts(), options.skew());
+    for (Operation operation : Operation.values()) {
+      latencies.put(operation, new Recorder(3));
+      unexpectedStatus.put(operation, new LongAdder());
+      failures.put(operation, new LongAdder());
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    var generator = new LoadGenerator(LoadGeneratorOptions.parse(args));
+    generator.createAccounts();
+    generator.run();
+    generator.report();
+  }
+
+  void createAccounts() throws InterruptedException {
+    System.out.printf("Creating %d accounts on %s%n", accountIds.length, options.baseUrl());
+    var permits = new Semaphore(SETUP_CONCURRENCY);
+    var failed = new LongAdder();
+    for (String accountId : accountIds) {
+      permits.acquire();
+      String body = "{\"accountId\":\"" + accountId + "\",\"balance\":" + options.initialBalance()
+          + "}";
+      client.sendAsync(post("", body), HttpResponse.BodyHandlers.discarding())
+          .whenComplete((response, error) -> {
+            if (error != null || response.statusCode() != 201) {
+              failed.increment();
+            }
+            permits.release();
+          });
+    }
+    permits.acquire(SETUP_CONCURRENCY);
+    if (failed.sum() > 0) {
+      throw new IllegalStateException(failed.sum() + " accounts could not be created.");
+    }
+  }
+
+  void run() throws InterruptedException {
+    System.out.printf("Running %d requests/s for %ds after a %ds warmup%n", options.rate(),
+        options.duration().toSeconds(), options.warmup().toSeconds());
+    var random = new SplittableRandom();
+    double intervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) options.rate();
+    long start = System.nanoTime();
+    recordingStart = start + options.warmup().toNanos();
+    long end = recordingStart + options.duration().toNanos();
+
+    for (long i = 0; ; i++) {
+      long intended = start + (long) (i * intervalNanos);
+      if (intended >= end) {
+        break;
+      }
+      long now;
+      while ((now = System.nanoTime()) < intended) {
+        LockSupport.parkNanos(intended - now);
+      }
+      if (intended >= recordingStart) {
+        sendLag.recordValue(now - intended);
+      }
+      send(nextOperation(random), random, intended);
+    }
+    while (inFlight.sum() > 0) {
+      Thread.sleep(10);
+    }
+  }
+
+  private Operation nextOperation(SplittableRandom random) {
+    double draw = random.nextDouble();
+    if (draw < options.readRatio()) {
+      return Operation.READ;
+    }
+    draw = random.nextDouble();
+    if (draw < options.insufficientFunds()) {
+      return Operation.INSUFFICIENT_FUNDS;
+    }
+    if (draw < options.insufficientFunds() + options.unknownAccount()) {
+      return Operation.UNKNOWN_ACCOUNT;
+    }
+    return Operation.TRANSFER;
+  }
+
+  private void send(Operation operation, SplittableRandom random, long intended) {
+    HttpRequest request = switch (operation) {
+      case READ -> HttpRequest.newBuilder(uri("/" + accountIds[popularity.sample(random)]))
+          .timeout(options.requestTimeout()).GET().build();
+      case TRANSFER -> transfer(random, String.format("%d.%02d", random.nextInt(10),
+          random.nextInt(1, 100)), false);
+      case INSUFFICIENT_FUNDS -> transfer(random, options.initialBalance() + "000", false);
+      case UNKNOWN_ACCOUNT -> transfer(random, "1.00", true);
+    };
+    inFlight.increment();
+    CompletableFuture<HttpResponse<Void>> response =
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    response.whenComplete((result, error) -> {
+      if (intended >= recordingStart) {
+        latencies.get(operation).recordValue(System.nanoTime() - intended);
+        if (error != null) {
+          failures.get(operation).increment();
+        } else if (result.statusCode() != operation.expectedStatus) {
+          unexpectedStatus.get(operation).increment();
+        }
+      }
+      inFlight.decrement();
+    });
+  }
+
+  private HttpRequest transfer(SplittableRandom random, String amount, boolean unknownPayee) {
+    int payer = popularity.sample(random);
+    int payee = popularity.sample(random);
+    while (payee == payer) {
+      payee = random.nextInt(accountIds.length);
+    }
+    String payeeId = unknownPayee ? "load-unknown-" + random.nextInt() : accountIds[payee];
+    return post("/transfer", "{\"accountFromId\":\"" + accountIds[payer] + "\",\"accountToId\":\""
+        + payeeId + "\",\"amount\":" + amount + "}");
+  }
+
+  private HttpRequest post(String path, String body) {
+    return HttpRequest.newBuilder(uri(path))
+        .timeout(options.requestTimeout())
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private URI uri(String path) {
+    return URI.create(options.baseUrl() + "/v1/accounts" + path);
+  }
+
+  void report() throws Exception {
+    File output = new File(options.output());
+    output.mkdirs();
+    System.out.printf("%n%-20s %9s %9s %9s %10s %10s %10s %10s %10s%n", "latency (ms)", "count",
+        "unexpected", "failed", "p50", "p90", "p99", "p99.9", "p99.99");
+    Histogram all = null;
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = latencies.get(operation).getIntervalHistogram();
+      all = all == null ? histogram.copy() : add(all, histogram);
+      print(operation.name(), histogram, unexpectedStatus.get(operation).sum(),
+          failures.get(operation).sum());
+      write(histogram, new File(output, operation.name().toLowerCase() + ".hgrm"));
+    }
+    print("ALL", all, unexpectedStatus.values().stream().mapToLong(LongAdder::sum).sum(),
+        failures.values().stream().mapToLong(LongAdder::sum).sum());
+    write(all, new File(output, "all.hgrm"));
+
+    Histogram lag = sendLag.getIntervalHistogram();
+    System.out.printf("%nGenerator send lag: p99 %.3f ms, max %.3f ms%n",
+        toMillis(lag.getValueAtPercentile(99)), toMillis(lag.getMaxValue()));
+    System.out.printf("Percentile distributions written to %s%n", output.getAbsolutePath());
+  }
+
+  private static Histogram add(Histogram total, Histogram histogram) {
+    total.add(histogram);
+    return total;
+  }
+
+  private static void print(String name, Histogram histogram, long unexpected, long failed) {
+    System.out.printf("%-20s %9d %9d %9d", name, histogram.getTotalCount(), unexpected, failed);
+    for (double percentile : PERCENTILES) {
+      System.out.printf(" %10.3f", toMillis(histogram.getValueAtPercentile(percentile)));
+    }
+    System.out.println();
+  }
+
+  private static void write(Histogram histogram, File file) throws Exception {
+    try (var out = new PrintStream(new FileOutputStream(file))) {
+      histogram.outputPercentileDistribution(out, 1_000_000.0);
+    }
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
@@ -0,0 +1,64 @@
+package com.dws.challenge.perf;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options of the {@link LoadGenerator}, given as {@code --name=value} arguments.
+ *
+ * @param baseUrl             address of the running service.
+ * @param rate                transfers and reads started per second, independent of responses.
+ * @param warmup              time run before recording starts.
+ * @param duration            time recorded after the warmup.
+ * @param accounts            accounts created up front through the API.
+ * @param initialBalance      balance of every created account.
+ * @param skew                Zipf exponent of account popularity, 0 for uniform traffic.
+ * @param readRatio           share of requests reading an account instead of transferring.
+ * @param insufficientFunds   share of transfers asking for more than the payer can have.
+ * @param unknownAccount      share of transfers paying into an account that does not exist.
+ * @param requestTimeout      time after which a request counts as failed.
+ * @param output              directory receiving the full percentile distributions.
+ */
+record LoadGeneratorOptions(String baseUrl, int rate, Duration warmup, Duration duration,
+                            int accounts, long initialBalance, double skew, double readRatio,
+                            double insufficientFunds, double unknownAccount,
+                            Duration requestTimeout, String output) {
+
+  private static final Set<String> KNOWN_OPTIONS = Set.of("baseUrl", "rate", "warmup", "duration",
+      "accounts", "initialBalance", "skew", "readRatio", "insufficientFunds", "unknownAccount",
+      "requestTimeout", "output");
+
+  static LoadGeneratorOptions parse(String[] args) {
+    Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+      }
+      int separator = arg.indexOf('=');
+      values.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+    var options = new LoadGeneratorOptions(
+        values.getOrDefault("baseUrl", "http://localhost:18080"),
+        Integer.parseInt(values.getOrDefault("rate", "1000")),
+        Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+        Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+        Integer.parseInt(values.getOrDefault("accounts", "10000")),
+        Long.parseLong(values.getOrDefault("initialBalance", "1000000")),
+        Double.parseDouble(values.getOrDefault("skew", "1.0")),
+        Double.parseDouble(values.getOrDefault("readRatio", "0.2")),
+        Double.parseDouble(values.getOrDefault("insufficientFunds", "0.01")),
+        Double.parseDouble(values.getOrDefault("unknownAccount", "0.01")),
+        Duration.ofSeconds(Long.parseLong(values.getOrDefault("requestTimeout", "30"))),
+        values.getOrDefault("output", "build/loadtest"));
+    values.keySet().removeAll(KNOWN_OPTIONS);
+    if (!values.isEmpty()) {
+      throw new IllegalArgumentException("Unknown options: " + values.keySet());
+    }
+    if (options.accounts() < 2 || options.rate() <= 0) {
+      throw new IllegalArgumentException("At least 2 accounts and a positive rate are required.");
+    }
+    return options;
+  }
+}
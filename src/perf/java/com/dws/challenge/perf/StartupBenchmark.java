@@ -0,0 +1,146 @@
+package com.dws.challenge.perf;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the application repeatedly in a fresh JVM and measures, from process launch:
+ * <ul>
+ *   <li>ready: the first account creation answered with 201,</li>
+ *   <li>first transfer: a transfer between two freshly created accounts answered with 200.</li>
+ * </ul>
+ * Each run is done in the default mode and in the fast-start mode (AOT bean definitions, the CDS
+ * archive produced by {@code ./gradlew cdsArchive} and the {@code faststart} profile).
+ *
+ * <p>Arguments: the extracted application directory, the application jar name in it and the
+ * number of runs per mode.
+ */
+public class StartupBenchmark {
+
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+  private final File workDir;
+  private final String jarName;
+  private final HttpClient client = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(1))
+      .build();
+
+  StartupBenchmark(File workDir, String jarName) {
+    this.workDir = workDir;
+    this.jarName = jarName;
+  }
+
+  public static void main(String[] args) throws Exception {
+    var benchmark = new StartupBenchmark(new File(args[0]), args[1]);
+    int runs = Integer.parseInt(args[2]);
+
+    List<String> defaultMode = List.of();
+    List<String> fastStartMode = List.of("-XX:SharedArchiveFile=application.jsa",
+        "-Dspring.aot.enabled=true", "-Dspring.profiles.active=faststart");
+
+    benchmark.report("default", defaultMode, runs);
+    benchmark.report("fast-start", fastStartMode, runs);
+  }
+
+  private void report(String mode, List<String> jvmArgs, int runs) throws Exception {
+    long[] ready = new long[runs];
+    long[] firstTransfer = new long[runs];
+    for (int run = 0; run < runs; run++) {
+      long[] sample = measure(jvmArgs);
+      ready[run] = sample[0];
+      firstTransfer[run] = sample[1];
+    }
+    System.out.printf("%-10s ready          %s%n", mode, summary(ready));
+    System.out.printf("%-10s first transfer %s%n", mode, summary(firstTransfer));
+  }
+
+  /**
+   * @return milliseconds from launch until ready and until the first transfer succeeded.
+   */
+  private long[] measure(List<String> jvmArgs) throws Exception {
+    int port = freePort();
+    List<String> command = new ArrayList<>();
+    command.add(ProcessHandle.current().info().command().orElse("java"));
+    command.addAll(jvmArgs);
+    command.addAll(List.of("-jar", jarName, "--server.port=" + port));
+
+    long start = System.nanoTime();
+    Process process = new ProcessBuilder(command)
+        .directory(workDir)
+        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+        .redirectError(ProcessBuilder.Redirect.INHERIT)
+        .start();
+    try {
+      String base = "http://localhost:" + port + "/v1/accounts";
+      awaitStatus(post(base, "{\"accountId\":\"startup-payer\",\"balance\":100}"), 201, process);
+      long ready = System.nanoTime();
+      awaitStatus(post(base, "{\"accountId\":\"startup-payee\",\"balance\":0}"), 201, process);
+      awaitStatus(post(base + "/transfer",
+          "{\"accountFromId\":\"startup-payer\",\"accountToId\":\"startup-payee\",\"amount\":1}"),
+          200, process);
+      long transferred = System.nanoTime();
+      return new long[] {TimeUnit.NANOSECONDS.toMillis(ready - start),
+          TimeUnit.NANOSECONDS.toMillis(transferred - start)};
+    } finally {
+      process.destroy();
+      if (!process.waitFor(10, TimeUnit.SECONDS)) {
+        process.destroyForcibly().waitFor();
+      }
+    }
+  }
+
+  private HttpRequest post(String uri, String body) {
+    return HttpRequest.newBuilder(URI.create(uri))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  // retries while the port is not accepting connections yet
+  private void awaitStatus(HttpRequest request, int expectedStatus, Process process)
+      throws Exception {
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (true) {
+      try {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != expectedStatus) {
+          throw new IllegalStateException(
+              request.uri() + " answered " + status + ", expected " + expectedStatus);
+        }
+        return;
+      } catch (ConnectException notListeningYet) {
+        if (!process.isAlive()) {
+          throw new IllegalStateException("Application exited with " + process.exitValue());
+        }
+        if (System.nanoTime() > deadline) {
+          throw new IllegalStateException("Application did not start within " + STARTUP_TIMEOUT);
+        }
+        Thread.sleep(2);
+      }
+    }
+  }
+
+  private static int freePort() throws IOException {
+    try (var socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static String summary(long[] millis) {
+    long[] sorted = millis.clone();
+    Arrays.sort(sorted);
+    return String.format("min %5d ms  median %5d ms  max %5d ms", sorted[0],
+        sorted[sorted.length / 2], sorted[sorted.length - 1]);
+  }
+}
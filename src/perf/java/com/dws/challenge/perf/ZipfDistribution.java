@@ -0,0 +1,30 @@
+package com.dws.challenge.perf;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples ranks {@code 0..n-1} with probability proportional to {@code 1 / (rank + 1)^exponent},
+ * modelling a few very busy accounts and a long tail of quiet ones.
+ */
+final class ZipfDistribution {
+
+  private final double[] cumulative;
+
+  ZipfDistribution(int n, double exponent) {
+    cumulative = new double[n];
+    double sum = 0;
+    for (int rank = 0; rank < n; rank++) {
+      sum += 1.0 / Math.pow(rank + 1, exponent);
+      cumulative[rank] = sum;
+    }
+    for (int rank = 0; rank < n; rank++) {
+      cumulative[rank] /= sum;
+    }
+  }
+
+  int sample(RandomGenerator random) {
+    int index = Arrays.binarySearch(cumulative, random.nextDouble());
+    return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+  }
+}
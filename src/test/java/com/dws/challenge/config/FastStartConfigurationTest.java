@@ -0,0 +1,37 @@
+package com.dws.challenge.config;
+
+import com.dws.challenge.service.audit.LedgerVerifier;
+import com.dws.challenge.service.holds.HoldsService;
+import com.dws.challenge.service.scheduling.ScheduledTransferService;
+import com.dws.challenge.service.streaming.PendingCreditsPublisher;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("faststart")
+class FastStartConfigurationTest {
+
+  @Autowired
+  private ConfigurableApplicationContext context;
+
+  // background tasks have no dependent bean, lazily initialized they would never start
+  @Test
+  void creates_background_task_beans_eagerly() {
+    assertCreated(PendingCreditsPublisher.class);
+    assertCreated(LedgerVerifier.class);
+    assertCreated(HoldsService.class);
+    assertCreated(ScheduledTransferService.class);
+  }
+
+  private void assertCreated(Class<?> beanType) {
+    for (String beanName : context.getBeanNamesForType(beanType)) {
+      Assertions.assertTrue(context.getBeanFactory().containsSingleton(beanName),
+          beanName + " is not created");
+    }
+    Assertions.assertEquals(1, context.getBeanNamesForType(beanType).length);
+  }
+}
@@ -47,4 +47,28 @@ class GlobalExceptionHandlerTest {
         responseEntity.getBody()).error());
     Assertions.assertEquals(HttpStatus.BAD_REQUEST.value(), responseEntity.getBody().code());
   }
-}
\ No newline at end of file
+
+  @Test
+  void handleScheduledTransferNotFoundException() {
+
+    var notFoundException = new ScheduledTransferNotFoundException(
+        "Scheduled transfer with id: 42 not found.");
+    var responseEntity = exceptionHandler.handleScheduledTransferNotFoundException(notFoundException);
+
+    Assertions.assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    Assertions.assertEquals("Scheduled transfer with id: 42 not found.", Objects.requireNonNull(
+        responseEntity.getBody()).error());
+    Assertions.assertEquals(HttpStatus.NOT_FOUND.value(), responseEntity.getBody().code());
+  }
+
+  @Test
+  void handleHoldNotFoundException() {
+
+    var notFoundException = new HoldNotFoundException("Hold with id: 42 not found.");
+    var responseEntity = exceptionHandler.handleHoldNotFoundException(notFoundException);
+
+    Assertions.assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+    Assertions.assertEquals("Hold with id: 42 not found.", Objects.requireNonNull(
+        responseEntity.getBody()).error());
+  }
+}
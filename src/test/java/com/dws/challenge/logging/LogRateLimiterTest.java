@@ -0,0 +1,24 @@
+package com.dws.challenge.logging;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LogRateLimiterTest {
+
+  @Test
+  void lets_permits_through_then_reports_suppressed_count() throws Exception {
+    var limiter = new LogRateLimiter(2, Duration.ofMillis(50));
+
+    Assertions.assertEquals(0, limiter.tryAcquire("insufficient_funds"));
+    Assertions.assertEquals(0, limiter.tryAcquire("insufficient_funds"));
+    Assertions.assertEquals(-1, limiter.tryAcquire("insufficient_funds"));
+    Assertions.assertEquals(-1, limiter.tryAcquire("insufficient_funds"));
+    Assertions.assertEquals(0, limiter.tryAcquire("same_account"));
+
+    Thread.sleep(60);
+
+    Assertions.assertEquals(2, limiter.tryAcquire("insufficient_funds"));
+    Assertions.assertEquals(0, limiter.tryAcquire("insufficient_funds"));
+  }
+}
@@ -0,0 +1,50 @@
+package com.dws.challenge.repository.tiered;
+
+import com.dws.challenge.domain.Account;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedAccountStoreTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void write_then_read_round_trips_balance_and_currency() throws Exception {
+    try (var store = new MappedAccountStore(directory.resolve("accounts.cold"), 100)) {
+      store.write(new Account("Id-123", new BigDecimal("200.50"), "USD"));
+      store.write(new Account("Id-456", new BigDecimal("-0.0001"), "JPY"));
+      store.write(new Account("Id-789", new BigDecimal("123456789012345678901234567.89")));
+      store.write(new Account("Id-123", new BigDecimal("150.50")));
+
+      Assertions.assertEquals(new BigDecimal("150.50"), store.read("Id-123").getBalance());
+      Assertions.assertNull(store.read("Id-123").getCurrency());
+      Assertions.assertEquals(new BigDecimal("-0.0001"), store.read("Id-456").getBalance());
+      Assertions.assertEquals("JPY", store.read("Id-456").getCurrency());
+      Assertions.assertEquals(new BigDecimal("123456789012345678901234567.89"),
+          store.read("Id-789").getBalance());
+      Assertions.assertTrue(store.contains("Id-456"));
+      Assertions.assertNull(store.read("Id-000"));
+    }
+  }
+
+  @Test
+  void refuses_accounts_not_fitting_a_slot_and_full_store() throws Exception {
+    try (var store = new MappedAccountStore(directory.resolve("accounts.cold"), 3)) {
+      Assertions.assertFalse(store.write(new Account("x".repeat(65), BigDecimal.ONE)));
+      Assertions.assertFalse(store.write(new Account("Id-big", BigDecimal.TEN.pow(40))));
+
+      for (int i = 0; i < 4; i++) {
+        Assertions.assertTrue(store.write(new Account("Id-" + i, BigDecimal.ONE)));
+      }
+      Assertions.assertFalse(store.write(new Account("Id-full", BigDecimal.ONE)));
+      Assertions.assertTrue(store.write(new Account("Id-0", BigDecimal.TEN)));
+
+      store.clear();
+      Assertions.assertFalse(store.contains("Id-0"));
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.dws.challenge.repository.tiered;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class StripedReadBufferTest {
+
+  @Test
+  void drops_accesses_once_the_ring_is_full() {
+    var buffer = new StripedReadBuffer();
+    for (int i = 0; i < StripedReadBuffer.RING_SIZE - 1; i++) {
+      Assertions.assertFalse(buffer.record("Id-" + i));
+    }
+    Assertions.assertTrue(buffer.record("Id-last"));
+    Assertions.assertTrue(buffer.record("Id-dropped"));
+
+    List<String> drained = new ArrayList<>();
+    buffer.drainTo(drained::add);
+
+    Assertions.assertEquals(StripedReadBuffer.RING_SIZE, drained.size());
+    Assertions.assertEquals("Id-0", drained.get(0));
+    Assertions.assertEquals("Id-last", drained.get(drained.size() - 1));
+    Assertions.assertFalse(buffer.record("Id-again"));
+  }
+
+  @Test
+  void clear_drops_recorded_accesses() {
+    var buffer = new StripedReadBuffer();
+    buffer.record("Id-123");
+
+    buffer.clear();
+
+    List<String> drained = new ArrayList<>();
+    buffer.drainTo(drained::add);
+    Assertions.assertEquals(List.of(), drained);
+  }
+}
@@ -0,0 +1,130 @@
+package com.dws.challenge.repository.tiered;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.exception.DuplicateAccountIdException;
+import com.dws.challenge.repository.AccountLocks;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TieredAccountsRepositoryTest {
+
+  private static final int ACCOUNTS = 2_000;
+
+  @TempDir
+  Path directory;
+
+  private TieredAccountsRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new TieredAccountsRepository(100, 10_000, directory.resolve("accounts.cold"));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    repository.shutdown();
+  }
+
+  @Test
+  void pages_cold_accounts_out_and_faults_them_back_in() {
+    for (int i = 0; i < ACCOUNTS; i++) {
+      repository.createAccount(new Account("Id-" + i, BigDecimal.valueOf(i)));
+    }
+    repository.cleanUp();
+    Assertions.assertTrue(repository.getHotAccountCount() <= 100);
+
+    for (int i = 0; i < ACCOUNTS; i++) {
+      Assertions.assertEquals(BigDecimal.valueOf(i), repository.getAccount("Id-" + i).getBalance());
+    }
+    Assertions.assertNull(repository.getAccount("Id-unknown"));
+    Assertions.assertThrows(DuplicateAccountIdException.class,
+        () -> repository.createAccount(new Account("Id-0", BigDecimal.ONE)));
+  }
+
+  @Test
+  void forEachAccount_visits_both_tiers_once() {
+    for (int i = 0; i < ACCOUNTS; i++) {
+      repository.createAccount(new Account("Id-" + i, BigDecimal.ONE));
+    }
+    repository.cleanUp();
+
+    Set<String> visited = new HashSet<>();
+    repository.forEachAccount(account -> Assertions.assertTrue(visited.add(account.getAccountId())));
+
+    Assertions.assertEquals(ACCOUNTS, visited.size());
+    Assertions.assertTrue(repository.getHotAccountCount() <= 100);
+  }
+
+  // Accounts the mapped store cannot take stay on heap but are still tracked, and so retried.
+  @Test
+  void keeps_tracking_accounts_that_cannot_be_paged_out() throws Exception {
+    repository.shutdown();
+    repository = new TieredAccountsRepository(100, 300, directory.resolve("small.cold"));
+    repository.createAccount(
+        new Account("Id-".repeat(MappedAccountStore.MAX_ID_BYTES), BigDecimal.ONE));
+    for (int i = 0; i < ACCOUNTS; i++) {
+      repository.createAccount(new Account("Id-" + i, BigDecimal.valueOf(i)));
+    }
+    repository.cleanUp();
+
+    Assertions.assertEquals(repository.getHotAccountCount(), repository.getTrackedAccountCount());
+    for (int i = 0; i < ACCOUNTS; i++) {
+      Assertions.assertEquals(BigDecimal.valueOf(i), repository.getAccount("Id-" + i).getBalance());
+    }
+  }
+
+  // Transfers racing with evictions must neither lose nor create money.
+  @Test
+  void concurrent_transfers_and_evictions_preserve_total_balance() throws Exception {
+    for (int i = 0; i < ACCOUNTS; i++) {
+      repository.createAccount(new Account("Id-" + i, BigDecimal.valueOf(1_000)));
+    }
+    int threads = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    for (int t = 0; t < threads; t++) {
+      executor.execute(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 20_000; i++) {
+          transfer("Id-" + random.nextInt(ACCOUNTS), "Id-" + random.nextInt(ACCOUNTS));
+        }
+      });
+    }
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+    repository.cleanUp();
+
+    BigDecimal total = BigDecimal.ZERO;
+    for (int i = 0; i < ACCOUNTS; i++) {
+      total = total.add(repository.getAccount("Id-" + i).getBalance());
+    }
+    Assertions.assertEquals(BigDecimal.valueOf(1_000L * ACCOUNTS), total);
+  }
+
+  // same locking discipline as AccountsService#transferAmount
+  private void transfer(String from, String to) {
+    if (from.equals(to)) {
+      return;
+    }
+    String first = from.compareTo(to) < 0 ? from : to;
+    String second = from.compareTo(to) < 0 ? to : from;
+    synchronized (AccountLocks.lockFor(first)) {
+      synchronized (AccountLocks.lockFor(second)) {
+        Account payer = repository.getAccount(from);
+        Account payee = repository.getAccount(to);
+        payer.setBalance(payer.getBalance().subtract(BigDecimal.ONE));
+        payee.setBalance(payee.getBalance().add(BigDecimal.ONE));
+      }
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.dws.challenge.repository.tiered;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WindowTinyLfuPolicyTest {
+
+  @Test
+  void keeps_frequently_accessed_accounts_over_one_off_accounts() {
+    var policy = new WindowTinyLfuPolicy(100);
+    for (int i = 0; i < 100; i++) {
+      policy.onInsert("Frequent-" + i);
+      for (int access = 0; access < 5; access++) {
+        policy.onAccess("Frequent-" + i);
+      }
+    }
+    Assertions.assertNull(policy.nextVictim());
+
+    int frequentEvicted = 0;
+    for (int i = 0; i < 1_000; i++) {
+      policy.onInsert("Scan-" + i);
+      String victim = policy.nextVictim();
+      Assertions.assertNotNull(victim);
+      if (victim.startsWith("Frequent-")) {
+        frequentEvicted++;
+      }
+      Assertions.assertNull(policy.nextVictim());
+    }
+    // the sketch is approximate, a few scans collide with popular accounts
+    Assertions.assertTrue(frequentEvicted < 10, "evicted " + frequentEvicted);
+    Assertions.assertEquals(100, policy.size());
+  }
+
+  @Test
+  void admits_candidate_accessed_more_than_main_victim() {
+    var policy = new WindowTinyLfuPolicy(100);
+    for (int i = 0; i < 100; i++) {
+      policy.onInsert("Old-" + i);
+    }
+    policy.onInsert("Popular");
+    for (int access = 0; access < 5; access++) {
+      policy.onAccess("Popular");
+    }
+
+    String victim = policy.nextVictim();
+    Assertions.assertTrue(victim.startsWith("Old-"), victim);
+  }
+}
@@ -12,7 +12,16 @@ import com.dws.challenge.exception.AccountNotFoundException;
 import com.dws.challenge.exception.DuplicateAccountIdException;
 import com.dws.challenge.exception.TransferAmountException;
 import com.dws.challenge.repository.AccountsRepository;
+import com.dws.challenge.service.audit.LedgerAggregates;
+import com.dws.challenge.service.fx.FxRateService;
+import com.dws.challenge.service.fx.FxRates;
+import com.dws.challenge.service.holds.AccountHolds;
+import com.dws.challenge.service.hotspot.HotAccountCredits;
+import com.dws.challenge.service.hotspot.HotAccountTracker;
+import com.dws.challenge.service.streaming.BalanceChangePublisher;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +40,24 @@ class AccountsServiceTest {
   @Mock
   private AccountsRepository accountsRepository;
 
+  @Mock
+  private HotAccountTracker hotAccountTracker;
+
+  @Mock
+  private HotAccountCredits hotAccountCredits;
+
+  @Mock
+  private AccountHolds accountHolds;
+
+  @Mock
+  private BalanceChangePublisher balanceChangePublisher;
+
+  @Mock
+  private LedgerAggregates ledgerAggregates;
+
+  @Mock
+  private FxRateService fxRateService;
+
   @InjectMocks
   private AccountsService accountsService;
 
@@ -88,6 +115,8 @@ class AccountsServiceTest {
     Assertions.assertEquals(BigDecimal.valueOf(150.50), payer.getBalance());
     Assertions.assertEquals(BigDecimal.valueOf(150.50), payee.getBalance());
     Mockito.verify(notificationService, Mockito.times(2)).notifyAboutTransfer(any(), anyString());
+    Mockito.verify(balanceChangePublisher).publish(payer);
+    Mockito.verify(balanceChangePublisher).publish(payee);
   }
 
   /*
@@ -169,5 +198,97 @@ class AccountsServiceTest {
     Mockito.verifyNoInteractions(notificationService);
   }
 
+  /*
+    Should credit a hot payee through the hot account lane instead of updating its balance.
+  */
+  @Test
+  void transferAmount_credits_hot_payee_through_hot_account_lane() {
+    Account payer = new Account("Id-123", BigDecimal.valueOf(200.50));
+    Account payee = new Account("Id-456", BigDecimal.valueOf(100.50));
+
+    Mockito.when(accountsRepository.getAccount(payer.getAccountId())).thenReturn(payer);
+    Mockito.when(accountsRepository.getAccount(payee.getAccountId())).thenReturn(payee);
+    Mockito.when(hotAccountTracker.isHot("Id-456")).thenReturn(true);
+
+    var transferCommand = new TransferAmountCommand("Id-123", "Id-456", BigDecimal.valueOf(50.00));
+    this.accountsService.transferAmount(transferCommand);
 
-}
\ No newline at end of file
+    Assertions.assertEquals(BigDecimal.valueOf(150.50), payer.getBalance());
+    Assertions.assertEquals(BigDecimal.valueOf(100.50), payee.getBalance());
+    Mockito.verify(hotAccountCredits).credit("Id-456", BigDecimal.valueOf(50.00));
+    Mockito.verify(balanceChangePublisher).publishPendingCredits("Id-456");
+    Mockito.verify(notificationService, Mockito.times(2)).notifyAboutTransfer(any(), anyString());
+  }
+
+  /*
+    Should convert the amount given in a third currency to the currencies of both accounts.
+  */
+  @Test
+  void transferAmount_converts_amount_to_account_currencies() {
+    Account payer = new Account("Id-123", new BigDecimal("200.00"), "EUR");
+    Account payee = new Account("Id-456", new BigDecimal("1000"), "JPY");
+
+    Mockito.when(accountsRepository.getAccount(payer.getAccountId())).thenReturn(payer);
+    Mockito.when(accountsRepository.getAccount(payee.getAccountId())).thenReturn(payee);
+    Mockito.when(fxRateService.getRates()).thenReturn(new FxRates("EUR",
+        Map.of("USD", new BigDecimal("1.10"), "JPY", new BigDecimal("160")), Instant.now()));
+
+    var transferCommand =
+        new TransferAmountCommand("Id-123", "Id-456", new BigDecimal("55.00"), "USD");
+    this.accountsService.transferAmount(transferCommand);
+
+    Assertions.assertEquals(new BigDecimal("150.00"), payer.getBalance());
+    Assertions.assertEquals(new BigDecimal("9000"), payee.getBalance());
+    Mockito.verify(ledgerAggregates).recordTransfer("Id-123", "EUR", new BigDecimal("50.00"),
+        "Id-456", "JPY", new BigDecimal("8000"));
+  }
+
+  /*
+    Should not convert between an account in the base currency and one without currency.
+  */
+  @Test
+  void transferAmount_treats_missing_currency_as_base_currency() {
+    Account payer = new Account("Id-123", new BigDecimal("200.000"), "EUR");
+    Account payee = new Account("Id-456", new BigDecimal("100.000"));
+
+    Mockito.when(accountsRepository.getAccount(payer.getAccountId())).thenReturn(payer);
+    Mockito.when(accountsRepository.getAccount(payee.getAccountId())).thenReturn(payee);
+    Mockito.when(fxRateService.getRates())
+        .thenReturn(new FxRates("EUR", Map.of("USD", new BigDecimal("1.10")), Instant.now()));
+
+    this.accountsService.transferAmount(
+        new TransferAmountCommand("Id-123", "Id-456", new BigDecimal("10.005")));
+
+    Assertions.assertEquals(new BigDecimal("189.995"), payer.getBalance());
+    Assertions.assertEquals(new BigDecimal("110.005"), payee.getBalance());
+  }
+
+  /*
+    Should reject accounts in a currency without exchange rate.
+  */
+  @Test
+  void addAccount_fails_on_unsupported_currency() {
+    Mockito.when(fxRateService.getRates())
+        .thenReturn(new FxRates("EUR", Map.of("USD", new BigDecimal("1.10")), Instant.now()));
+
+    var exception = assertThrows(IllegalArgumentException.class,
+        () -> accountsService.createAccount(new Account("Id-123", BigDecimal.TEN, "CHF")));
+
+    assertEquals("Unsupported currency: CHF.", exception.getMessage());
+    Mockito.verify(accountsRepository, Mockito.never()).createAccount(any());
+  }
+
+  /*
+    Should return no account when the accounts are cleared before pending credits are folded.
+  */
+  @Test
+  void getAccount_returns_null_when_cleared_while_folding() {
+    Mockito.when(accountsRepository.getAccount("Id-123"))
+        .thenReturn(new Account("Id-123", BigDecimal.TEN), (Account) null);
+    Mockito.when(hotAccountCredits.hasPending("Id-123")).thenReturn(true);
+
+    Assertions.assertNull(accountsService.getAccount("Id-123"));
+    Mockito.verify(hotAccountCredits, Mockito.never()).fold(any());
+    Mockito.verify(balanceChangePublisher, Mockito.never()).publish(any());
+  }
+}
@@ -0,0 +1,130 @@
+package com.dws.challenge.service.audit;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import com.dws.challenge.exception.TransferAmountException;
+import com.dws.challenge.repository.AccountsRepositoryInMemory;
+import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.NotificationService;
+import com.dws.challenge.service.fx.FxRateService;
+import com.dws.challenge.service.fx.FxRates;
+import com.dws.challenge.service.holds.AccountHolds;
+import com.dws.challenge.service.hotspot.HotAccountCredits;
+import com.dws.challenge.service.hotspot.HotAccountTracker;
+import com.dws.challenge.service.streaming.BalanceChangePublisher;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.boot.actuate.health.Status;
+
+class LedgerVerifierTest {
+
+  private static final int ACCOUNTS = 200;
+
+  private final AccountsRepositoryInMemory accountsRepository = new AccountsRepositoryInMemory();
+  private final HotAccountCredits hotAccountCredits = new HotAccountCredits();
+  private final LedgerAggregates ledgerAggregates = new LedgerAggregates("EUR");
+  private final FxRateService fxRateService = Mockito.mock(FxRateService.class);
+  private AccountsService accountsService;
+  private LedgerVerifier ledgerVerifier;
+
+  @BeforeEach
+  void setUp() {
+    // every 8th account is hot, so its credits go through the hot account lane
+    HotAccountTracker hotAccountTracker = Mockito.mock(HotAccountTracker.class);
+    Mockito.when(hotAccountTracker.isHot(Mockito.anyString()))
+        .thenAnswer(invocation -> invocation.<String>getArgument(0).endsWith("8"));
+    accountsService = new AccountsService(accountsRepository,
+        Mockito.mock(NotificationService.class), hotAccountTracker, hotAccountCredits,
+        new AccountHolds(), Mockito.mock(BalanceChangePublisher.class), ledgerAggregates,
+        fxRateService);
+    ledgerVerifier = new LedgerVerifier(accountsRepository, hotAccountCredits, ledgerAggregates,
+        false, Duration.ofMinutes(1));
+    for (int i = 0; i < ACCOUNTS; i++) {
+      accountsService.createAccount(new Account("Id-" + i, BigDecimal.valueOf(100)));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    ledgerVerifier.shutdown();
+  }
+
+  // Reconciliations running during transfers never report drift, and verify every shard once quiet.
+  @Test
+  void concurrent_transfers_never_report_drift() throws Exception {
+    AtomicBoolean running = new AtomicBoolean(true);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 4; t++) {
+      executor.execute(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running.get()) {
+          transfer("Id-" + random.nextInt(ACCOUNTS), "Id-" + random.nextInt(ACCOUNTS));
+        }
+      });
+    }
+    for (int i = 0; i < 50; i++) {
+      Assertions.assertFalse(ledgerVerifier.verify().hasDrift());
+    }
+    running.set(false);
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    LedgerReport report = ledgerVerifier.verify();
+    Assertions.assertEquals(LedgerAggregates.SHARDS, report.verifiedShards());
+    Assertions.assertEquals(Map.of("EUR", BigDecimal.valueOf(100L * ACCOUNTS)),
+        report.totalBalances());
+    Assertions.assertTrue(report.transferCount() > 0);
+  }
+
+  // A cross-currency transfer moves money between the currency totals, each still reconciled.
+  @Test
+  void reconciles_balances_per_currency() {
+    Mockito.when(fxRateService.getRates())
+        .thenReturn(new FxRates("EUR", Map.of("USD", new BigDecimal("1.10")), Instant.now()));
+    accountsService.createAccount(new Account("Usd-1", new BigDecimal("100.00"), "USD"));
+
+    accountsService.transferAmount(new TransferAmountCommand("Id-1", "Usd-1", BigDecimal.TEN));
+
+    LedgerReport report = ledgerVerifier.verify();
+    Assertions.assertFalse(report.hasDrift());
+    Assertions.assertEquals(LedgerAggregates.SHARDS, report.verifiedShards());
+    Assertions.assertEquals(Map.of("EUR", BigDecimal.valueOf(100L * ACCOUNTS - 10),
+        "USD", new BigDecimal("111.00")), report.totalBalances());
+  }
+
+  @Test
+  void reports_drift_of_balance_changed_behind_the_aggregates() {
+    LedgerHealthIndicator healthIndicator = new LedgerHealthIndicator(ledgerVerifier);
+    Assertions.assertEquals(Status.UNKNOWN, healthIndicator.health().getStatus());
+    ledgerVerifier.verify();
+    Assertions.assertEquals(Status.UP, healthIndicator.health().getStatus());
+
+    Account account = accountsRepository.getAccount("Id-7");
+    account.setBalance(account.getBalance().add(BigDecimal.ONE));
+
+    LedgerReport report = ledgerVerifier.verify();
+    Assertions.assertEquals(1, report.drifts().size());
+    Assertions.assertEquals(LedgerAggregates.shardOf("Id-7"), report.drifts().get(0).shard());
+    Assertions.assertEquals(Status.DOWN, healthIndicator.health().getStatus());
+  }
+
+  private void transfer(String from, String to) {
+    try {
+      accountsService.transferAmount(new TransferAmountCommand(from, to, BigDecimal.ONE));
+    } catch (IllegalArgumentException | TransferAmountException e) {
+      // same account or insufficient funds, the aggregates must not move either
+    }
+  }
+}
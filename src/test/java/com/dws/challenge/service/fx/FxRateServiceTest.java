@@ -0,0 +1,57 @@
+package com.dws.challenge.service.fx;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+class FxRateServiceTest {
+
+  @TempDir
+  Path directory;
+
+  private FxRateService fxRateService;
+
+  @AfterEach
+  void tearDown() {
+    fxRateService.stop();
+  }
+
+  // A changed rates file is published as a new snapshot, a broken one keeps the previous snapshot.
+  @Test
+  void swaps_in_rates_of_changed_file_only_when_valid() throws Exception {
+    Path file = directory.resolve("fx-rates.properties");
+    Files.writeString(file, "USD=1.10\n");
+    // refreshed by hand below
+    fxRateService = new FxRateService("EUR", new FileSystemResource(file), Duration.ofHours(1));
+    FxRates loaded = fxRateService.getRates();
+    Assertions.assertEquals(new BigDecimal("11.00"), loaded.convert(BigDecimal.TEN, "EUR", "USD"));
+
+    fxRateService.refreshIfModified();
+    Assertions.assertSame(loaded, fxRateService.getRates());
+
+    write(file, "USD=1.20\nGBP=0.85\n", 1);
+    fxRateService.refreshIfModified();
+    FxRates reloaded = fxRateService.getRates();
+    Assertions.assertEquals(new BigDecimal("12.00"), reloaded.convert(BigDecimal.TEN, "EUR", "USD"));
+    Assertions.assertTrue(reloaded.supports("GBP"));
+
+    write(file, "USD=not-a-rate\n", 2);
+    fxRateService.refreshIfModified();
+    Assertions.assertSame(reloaded, fxRateService.getRates());
+  }
+
+  private static void write(Path file, String content, int generation) throws Exception {
+    Files.writeString(file, content);
+    // file systems with coarse timestamps would not see the change otherwise
+    Files.setLastModifiedTime(file,
+        FileTime.from(Instant.now().plusSeconds(generation * 60L)));
+  }
+}
@@ -0,0 +1,61 @@
+package com.dws.challenge.service.fx;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class FxRatesTest {
+
+  private final FxRates rates = new FxRates("EUR", Map.of("USD", new BigDecimal("1.0852"),
+      "JPY", new BigDecimal("162.35"), "GBP", new BigDecimal("0.8571")), Instant.now());
+
+  @Test
+  void converts_through_cross_rates_rounded_to_minor_unit() {
+    Assertions.assertEquals(new BigDecimal("108.52"), rates.convert(new BigDecimal("100"), "EUR", "USD"));
+    Assertions.assertEquals(new BigDecimal("100.00"), rates.convert(new BigDecimal("108.52"), "USD", "EUR"));
+    Assertions.assertEquals(new BigDecimal("16235"), rates.convert(new BigDecimal("100.00"), null, "JPY"));
+    // 10 GBP = 10 / 0.8571 * 1.0852 USD = 12.6613...
+    Assertions.assertEquals(new BigDecimal("12.66"), rates.convert(BigDecimal.TEN, "GBP", "USD"));
+    Assertions.assertEquals(new BigDecimal("-5.43"), rates.convert(new BigDecimal("-5"), "EUR", "USD"));
+    Assertions.assertEquals(new BigDecimal("0.50"), rates.convert(new BigDecimal("0.5"), "EUR", null));
+  }
+
+  @Test
+  void fixed_point_path_matches_BigDecimal_arithmetic() {
+    Random random = new Random(7);
+    String[] currencies = {"EUR", "USD", "JPY", "GBP"};
+    for (int i = 0; i < 100_000; i++) {
+      BigDecimal amount = new BigDecimal(BigInteger.valueOf(random.nextLong() >> random.nextInt(64)),
+          random.nextInt(9));
+      String from = currencies[random.nextInt(currencies.length)];
+      String to = currencies[random.nextInt(currencies.length)];
+      BigDecimal expected = amount.multiply(crossRate(from, to))
+          .setScale(Currency.getInstance(to).getDefaultFractionDigits(), RoundingMode.HALF_EVEN);
+      Assertions.assertEquals(expected, rates.convert(amount, from, to), amount + " " + from + to);
+    }
+  }
+
+  @Test
+  void rejects_unknown_currencies_and_invalid_rates() {
+    Assertions.assertFalse(rates.supports("CHF"));
+    Assertions.assertTrue(rates.supports(null));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> rates.convert(BigDecimal.ONE, "EUR", "CHF"));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new FxRates("EUR", Map.of("USD", BigDecimal.ZERO), Instant.now()));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new FxRates("EUR", Map.of("XYZ", BigDecimal.ONE), Instant.now()));
+  }
+
+  private static BigDecimal crossRate(String from, String to) {
+    Map<String, BigDecimal> perBase = Map.of("EUR", BigDecimal.ONE, "USD", new BigDecimal("1.0852"),
+        "JPY", new BigDecimal("162.35"), "GBP", new BigDecimal("0.8571"));
+    return perBase.get(to).divide(perBase.get(from), FxRates.RATE_SCALE, RoundingMode.HALF_EVEN);
+  }
+}
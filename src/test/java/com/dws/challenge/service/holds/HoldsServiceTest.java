@@ -0,0 +1,177 @@
+package com.dws.challenge.service.holds;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.Hold;
+import com.dws.challenge.domain.command.CaptureHoldCommand;
+import com.dws.challenge.domain.command.PlaceHoldCommand;
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import com.dws.challenge.domain.valueobject.HoldStatus;
+import com.dws.challenge.exception.HoldNotFoundException;
+import com.dws.challenge.exception.TransferAmountException;
+import com.dws.challenge.repository.AccountsRepositoryInMemory;
+import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.NotificationService;
+import com.dws.challenge.service.audit.LedgerAggregates;
+import com.dws.challenge.service.fx.FxRateService;
+import com.dws.challenge.service.fx.FxRates;
+import com.dws.challenge.service.hotspot.HotAccountCredits;
+import com.dws.challenge.service.hotspot.HotAccountTracker;
+import com.dws.challenge.service.streaming.BalanceChangePublisher;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class HoldsServiceTest {
+
+  private final MutableClock clock = new MutableClock();
+  private final FxRateService fxRateService = Mockito.mock(FxRateService.class);
+  private AccountsService accountsService;
+  private HoldsService holdsService;
+
+  @BeforeEach
+  void setUp() {
+    AccountHolds accountHolds = new AccountHolds(clock);
+    accountsService = new AccountsService(new AccountsRepositoryInMemory(),
+        Mockito.mock(NotificationService.class),
+        new HotAccountTracker(false, 16, 4, 0.02, 1, 64), new HotAccountCredits(), accountHolds,
+        Mockito.mock(BalanceChangePublisher.class), new LedgerAggregates("EUR"),
+        fxRateService);
+    // sweeper effectively disabled, expiry is driven by the clock below
+    holdsService = new HoldsService(accountsService, accountHolds, Duration.ofMinutes(15),
+        Duration.ofHours(1));
+    accountsService.createAccount(new Account("Id-123", new BigDecimal("100.00")));
+    accountsService.createAccount(new Account("Id-456", new BigDecimal("10.00")));
+  }
+
+  @AfterEach
+  void tearDown() {
+    holdsService.shutdown();
+  }
+
+  @Test
+  void hold_reduces_available_balance_only() {
+    holdsService.placeHold(hold(new BigDecimal("60.00"), null));
+
+    var balance = accountsService.getAccountBalance("Id-123");
+    Assertions.assertEquals(new BigDecimal("100.00"), balance.ledgerBalance());
+    Assertions.assertEquals(new BigDecimal("40.00"), balance.availableBalance());
+
+    Assertions.assertThrows(TransferAmountException.class, () -> accountsService.transferAmount(
+        new TransferAmountCommand("Id-123", "Id-456", new BigDecimal("50.00"))));
+    Assertions.assertThrows(TransferAmountException.class,
+        () -> holdsService.placeHold(hold(new BigDecimal("50.00"), null)));
+  }
+
+  @Test
+  void holds_amount_converted_to_the_payer_currency() {
+    Mockito.when(fxRateService.getRates())
+        .thenReturn(new FxRates("EUR", Map.of("USD", new BigDecimal("1.10")), Instant.now()));
+
+    var placed = holdsService.placeHold(new PlaceHoldCommand("Id-123", "Id-456",
+        new BigDecimal("11.00"), null, "USD"));
+    Assertions.assertEquals(new BigDecimal("10.00"), placed.amount());
+    Assertions.assertEquals(new BigDecimal("90.00"),
+        accountsService.getAccountBalance("Id-123").availableBalance());
+
+    holdsService.captureHold(placed.holdId(), null);
+    Assertions.assertEquals(new BigDecimal("90.00"), accountsService.getAccount("Id-123").getBalance());
+    Assertions.assertEquals(new BigDecimal("20.00"), accountsService.getAccount("Id-456").getBalance());
+  }
+
+  // a re-created account must not inherit the holds of the cleared one
+  @Test
+  void clearing_accounts_drops_their_holds() {
+    var placed = holdsService.placeHold(hold(new BigDecimal("60.00"), null));
+
+    accountsService.clearAccounts();
+    accountsService.createAccount(new Account("Id-123", new BigDecimal("100.00")));
+
+    Assertions.assertEquals(new BigDecimal("100.00"),
+        accountsService.getAccountBalance("Id-123").availableBalance());
+    Assertions.assertThrows(HoldNotFoundException.class,
+        () -> holdsService.releaseHold(placed.holdId()));
+  }
+
+  @Test
+  void partial_capture_transfers_amount_and_releases_remainder() {
+    var placed = holdsService.placeHold(hold(new BigDecimal("60.00"), null));
+
+    var captured = holdsService.captureHold(placed.holdId(),
+        new CaptureHoldCommand(new BigDecimal("25.00")));
+
+    Assertions.assertEquals(HoldStatus.CAPTURED, captured.status());
+    Assertions.assertEquals(new BigDecimal("75.00"), accountsService.getAccount("Id-123").getBalance());
+    Assertions.assertEquals(new BigDecimal("35.00"), accountsService.getAccount("Id-456").getBalance());
+    Assertions.assertEquals(new BigDecimal("75.00"),
+        accountsService.getAccountBalance("Id-123").availableBalance());
+    Assertions.assertThrows(HoldNotFoundException.class,
+        () -> holdsService.captureHold(placed.holdId(), null));
+  }
+
+  @Test
+  void released_and_expired_holds_free_funds() {
+    var released = holdsService.placeHold(hold(new BigDecimal("30.00"), null));
+    holdsService.placeHold(hold(new BigDecimal("30.00"), Duration.ofSeconds(5)));
+    Assertions.assertEquals(HoldStatus.RELEASED, holdsService.releaseHold(released.holdId()).status());
+    Assertions.assertEquals(new BigDecimal("70.00"),
+        accountsService.getAccountBalance("Id-123").availableBalance());
+
+    clock.advance(Duration.ofSeconds(5));
+
+    Assertions.assertEquals(new BigDecimal("100.00"),
+        accountsService.getAccountBalance("Id-123").availableBalance());
+    Assertions.assertThrows(HoldNotFoundException.class,
+        () -> holdsService.releaseHold(released.holdId()));
+  }
+
+  @Test
+  void sweep_drops_expired_holds_of_idle_accounts() {
+    AccountHolds accountHolds = new AccountHolds(clock);
+    accountHolds.add(new Hold("h-1", "Id-123", "Id-456", BigDecimal.ONE,
+        clock.instant().plusSeconds(1)));
+
+    Assertions.assertEquals(0, accountHolds.expireDue());
+    clock.advance(Duration.ofSeconds(1));
+    Assertions.assertEquals(1, accountHolds.expireDue());
+
+    Assertions.assertFalse(accountHolds.hasHolds("Id-123"));
+    Assertions.assertNull(accountHolds.find("h-1"));
+  }
+
+  private static PlaceHoldCommand hold(BigDecimal amount, Duration ttl) {
+    return new PlaceHoldCommand("Id-123", "Id-456", amount, ttl);
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.dws.challenge.service.hotspot;
+
+import com.dws.challenge.domain.Account;
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HotAccountCreditsTest {
+
+  private final HotAccountCredits hotAccountCredits = new HotAccountCredits();
+
+  @Test
+  void fold_moves_pending_credits_into_balance() {
+    Account account = new Account("Treasury", new BigDecimal("10.00"));
+    hotAccountCredits.credit("Treasury", new BigDecimal("2.50"));
+    hotAccountCredits.credit("Treasury", new BigDecimal("0.25"));
+
+    Assertions.assertTrue(hotAccountCredits.hasPending("Treasury"));
+    Assertions.assertEquals(new BigDecimal("2.75"), hotAccountCredits.pending("Treasury"));
+
+    hotAccountCredits.fold(account);
+
+    Assertions.assertEquals(new BigDecimal("12.75"), account.getBalance());
+    Assertions.assertFalse(hotAccountCredits.hasPending("Treasury"));
+    Assertions.assertFalse(hotAccountCredits.hasPending("Unknown"));
+  }
+
+  @Test
+  void clear_drops_pending_credits() {
+    hotAccountCredits.credit("Treasury", new BigDecimal("2.50"));
+
+    hotAccountCredits.clear();
+
+    Account reused = new Account("Treasury", BigDecimal.ZERO);
+    hotAccountCredits.fold(reused);
+    Assertions.assertEquals(BigDecimal.ZERO, reused.getBalance());
+    Assertions.assertFalse(hotAccountCredits.hasPending("Treasury"));
+  }
+
+  // Credits racing with folds must all end up in the balance exactly once.
+  @Test
+  void concurrent_credits_and_folds_lose_nothing() throws Exception {
+    Account account = new Account("Treasury", BigDecimal.ZERO);
+    int threads = 4;
+    int creditsPerThread = 10_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+    CountDownLatch done = new CountDownLatch(threads);
+    for (int t = 0; t < threads; t++) {
+      executor.execute(() -> {
+        for (int i = 0; i < creditsPerThread; i++) {
+          hotAccountCredits.credit("Treasury", new BigDecimal("0.01"));
+        }
+        done.countDown();
+      });
+    }
+    executor.execute(() -> {
+      while (done.getCount() > 0) {
+        synchronized (account) {
+          hotAccountCredits.fold(account);
+        }
+      }
+    });
+    Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    synchronized (account) {
+      hotAccountCredits.fold(account);
+    }
+
+    Assertions.assertEquals(0, new BigDecimal("400.00").compareTo(account.getBalance()));
+  }
+}
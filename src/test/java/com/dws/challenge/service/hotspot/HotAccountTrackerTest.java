@@ -0,0 +1,49 @@
+package com.dws.challenge.service.hotspot;
+
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HotAccountTrackerTest {
+
+  @Test
+  void detects_accounts_taking_part_in_most_transfers() {
+    var tracker = new HotAccountTracker(true, 64, 4, 0.05, 1, 1000);
+    Random random = new Random(7);
+
+    for (int i = 0; i < 10_000; i++) {
+      String payer = "Id-" + random.nextInt(100_000);
+      String payee = random.nextInt(10) < 3 ? "Treasury" : "Id-" + random.nextInt(100_000);
+      tracker.record(payer, payee);
+    }
+
+    Assertions.assertEquals(Set.of("Treasury"), tracker.getHotAccounts());
+    Assertions.assertTrue(tracker.isHot("Treasury"));
+    Assertions.assertEquals("Treasury", tracker.topAccounts(1).get(0).key());
+  }
+
+  @Test
+  void hot_account_cools_down_when_traffic_moves() {
+    var tracker = new HotAccountTracker(true, 64, 4, 0.05, 1, 1000);
+    for (int i = 0; i < 1_000; i++) {
+      tracker.record("Merchant", "Id-" + i);
+    }
+    Assertions.assertTrue(tracker.isHot("Merchant"));
+
+    for (int i = 0; i < 20_000; i++) {
+      tracker.record("Id-" + i, "Treasury");
+    }
+    Assertions.assertFalse(tracker.isHot("Merchant"));
+    Assertions.assertTrue(tracker.isHot("Treasury"));
+  }
+
+  @Test
+  void disabled_tracker_reports_no_hot_accounts() {
+    var tracker = new HotAccountTracker(false, 64, 4, 0.05, 1, 10);
+    for (int i = 0; i < 1_000; i++) {
+      tracker.record("Merchant", "Id-" + i);
+    }
+    Assertions.assertFalse(tracker.isHot("Merchant"));
+  }
+}
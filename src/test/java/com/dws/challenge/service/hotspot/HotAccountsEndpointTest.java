@@ -0,0 +1,46 @@
+package com.dws.challenge.service.hotspot;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+class HotAccountsEndpointTest {
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private HotAccountTracker hotAccountTracker;
+
+  @Test
+  void exposes_hot_accounts_on_actuator() throws Exception {
+    for (int i = 0; i < 10_000; i++) {
+      hotAccountTracker.record("Id-" + i, "Treasury");
+    }
+    MockMvc mockMvc = webAppContextSetup(webApplicationContext).build();
+
+    mockMvc.perform(get("/actuator/hotaccounts").param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.hotAccounts[0]").value("Treasury"))
+        .andExpect(jsonPath("$.topAccounts.length()").value(1))
+        .andExpect(jsonPath("$.topAccounts[0].key").value("Treasury"));
+  }
+
+  @Test
+  void rejects_non_positive_limit() throws Exception {
+    MockMvc mockMvc = webAppContextSetup(webApplicationContext).build();
+
+    mockMvc.perform(get("/actuator/hotaccounts").param("limit", "0"))
+        .andExpect(status().isBadRequest());
+    mockMvc.perform(get("/actuator/hotaccounts").param("limit", "-1"))
+        .andExpect(status().isBadRequest());
+  }
+}
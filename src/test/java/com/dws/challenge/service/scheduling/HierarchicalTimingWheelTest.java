@@ -0,0 +1,93 @@
+package com.dws.challenge.service.scheduling;
+
+import com.dws.challenge.service.scheduling.HierarchicalTimingWheel.Timeout;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+  private static final long TICK = 10;
+  private static final long START = 1_000_000;
+
+  @Test
+  void expires_entries_on_their_deadline_tick() {
+    var wheel = new HierarchicalTimingWheel<String>(TICK, START);
+    wheel.schedule("soon", START + 25);
+    wheel.schedule("later", START + 1_000);
+
+    Assertions.assertEquals(List.of(), wheel.advanceTo(START + 29));
+    Assertions.assertEquals(List.of("soon"), wheel.advanceTo(START + 30));
+    Assertions.assertEquals(List.of(), wheel.advanceTo(START + 999));
+    Assertions.assertEquals(List.of("later"), wheel.advanceTo(START + 1_000));
+    Assertions.assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void past_deadlines_expire_on_next_tick() {
+    var wheel = new HierarchicalTimingWheel<String>(TICK, START);
+    wheel.advanceTo(START + 500);
+    wheel.schedule("late", START);
+
+    Assertions.assertEquals(List.of("late"), wheel.advanceTo(START + 510));
+  }
+
+  @Test
+  void cancelled_entries_never_expire() {
+    var wheel = new HierarchicalTimingWheel<String>(TICK, START);
+    Timeout<String> cancelled = wheel.schedule("cancelled", START + 100_000);
+    wheel.schedule("kept", START + 100_000);
+
+    Assertions.assertTrue(wheel.cancel(cancelled));
+    Assertions.assertFalse(wheel.cancel(cancelled));
+    Assertions.assertEquals(List.of("kept"), wheel.advanceTo(START + 100_000));
+  }
+
+  // Entries spread over every level, advanced in random steps, must expire exactly once and
+  // never before their deadline nor after the tick containing it.
+  @Test
+  void cascades_entries_through_all_levels() {
+    var wheel = new HierarchicalTimingWheel<long[]>(1, 0);
+    Random random = new Random(3);
+    List<long[]> entries = new ArrayList<>();
+    Set<long[]> cancelled = new HashSet<>();
+    for (int i = 0; i < 20_000; i++) {
+      long deadline = (long) Math.pow(2, random.nextDouble() * 26);
+      long[] entry = {deadline};
+      Timeout<long[]> timeout = wheel.schedule(entry, deadline);
+      entries.add(entry);
+      if (random.nextInt(10) == 0) {
+        wheel.cancel(timeout);
+        cancelled.add(entry);
+      }
+    }
+    long now = 0;
+    int expiredCount = 0;
+    while (now < (1L << 26)) {
+      long previous = now;
+      now += 1 + random.nextInt(200_000);
+      for (long[] entry : wheel.advanceTo(now)) {
+        Assertions.assertFalse(cancelled.contains(entry));
+        Assertions.assertTrue(entry[0] > previous && entry[0] <= now,
+            "deadline " + entry[0] + " expired in (" + previous + ", " + now + "]");
+        expiredCount++;
+      }
+    }
+    Assertions.assertEquals(entries.size() - cancelled.size(), expiredCount);
+    Assertions.assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void keeps_entries_beyond_the_wheel_span() {
+    var wheel = new HierarchicalTimingWheel<String>(1, 0);
+    long farAway = (1L << 32) + 12_345;
+    wheel.schedule("far", farAway);
+
+    Assertions.assertEquals(List.of(), wheel.advanceTo(farAway - 1));
+    Assertions.assertEquals(List.of("far"), wheel.advanceTo(farAway));
+  }
+}
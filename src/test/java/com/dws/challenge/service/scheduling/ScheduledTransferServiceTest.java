@@ -0,0 +1,196 @@
+package com.dws.challenge.service.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dws.challenge.domain.aggregate.ScheduledTransferResponse;
+import com.dws.challenge.domain.command.ScheduleTransferCommand;
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import com.dws.challenge.domain.valueobject.ScheduledTransferStatus;
+import com.dws.challenge.exception.ScheduledTransferNotFoundException;
+import com.dws.challenge.exception.TransferAmountException;
+import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.fx.FxRateService;
+import com.dws.challenge.service.fx.FxRates;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledTransferServiceTest {
+
+  private static final TransferAmountCommand TRANSFER =
+      new TransferAmountCommand("Id-123", "Id-456", BigDecimal.valueOf(50.00));
+
+  @Mock
+  private AccountsService accountsService;
+
+  private ScheduledTransferService scheduledTransferService;
+
+  @BeforeEach
+  void setUp() {
+    scheduledTransferService = new ScheduledTransferService(accountsService, Clock.systemUTC(), 5,
+        2, 16, Duration.ofMillis(200));
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduledTransferService.shutdown();
+  }
+
+  @Test
+  void executes_one_off_transfer_when_due() {
+    var response = scheduledTransferService.schedule(
+        new ScheduleTransferCommand(TRANSFER, Instant.now().plusMillis(50), null, null));
+    assertEquals(ScheduledTransferStatus.PENDING, response.status());
+
+    Mockito.verify(accountsService, Mockito.timeout(5_000)).transferAmount(TRANSFER);
+    awaitStatus(response.scheduledTransferId(), ScheduledTransferStatus.EXECUTED);
+  }
+
+  @Test
+  void records_failed_execution() {
+    Mockito.when(accountsService.transferAmount(TRANSFER))
+        .thenThrow(new TransferAmountException("Insufficient fund balance in account number : Id-123."));
+
+    var response = scheduledTransferService.schedule(
+        new ScheduleTransferCommand(TRANSFER, Instant.now(), null, null));
+
+    ScheduledTransferResponse failed =
+        awaitStatus(response.scheduledTransferId(), ScheduledTransferStatus.FAILED);
+    assertEquals("Insufficient fund balance in account number : Id-123.", failed.lastError());
+  }
+
+  @Test
+  void repeats_recurring_transfer_until_cancelled() {
+    var response = scheduledTransferService.schedule(new ScheduleTransferCommand(TRANSFER,
+        Instant.now(), Duration.ofMillis(20), Duration.ofMillis(5)));
+
+    Mockito.verify(accountsService, Mockito.timeout(5_000).atLeast(3)).transferAmount(TRANSFER);
+    var cancelled = scheduledTransferService.cancel(response.scheduledTransferId());
+
+    assertEquals(ScheduledTransferStatus.CANCELLED, cancelled.status());
+  }
+
+  @Test
+  void cancelled_transfer_is_not_executed_and_purged_after_retention() {
+    var response = scheduledTransferService.schedule(
+        new ScheduleTransferCommand(TRANSFER, Instant.now().plusSeconds(60), null, null));
+
+    scheduledTransferService.cancel(response.scheduledTransferId());
+    await(() -> isPurged(response.scheduledTransferId()));
+
+    Mockito.verifyNoInteractions(accountsService);
+    assertEquals(0, scheduledTransferService.pendingEntries());
+  }
+
+  @Test
+  void skips_occurrences_missed_before_a_past_start_time() {
+    var response = scheduledTransferService.schedule(new ScheduleTransferCommand(TRANSFER,
+        Instant.now().minus(Duration.ofHours(1)), Duration.ofMinutes(1), null));
+    String id = response.scheduledTransferId();
+
+    // catching up would execute again until the next execution is in the future
+    await(() -> scheduledTransferService.getScheduledTransfer(id).nextExecutionAt()
+        .isAfter(Instant.now()));
+
+    Mockito.verify(accountsService, Mockito.times(1)).transferAmount(TRANSFER);
+    assertEquals(1, scheduledTransferService.getScheduledTransfer(id).executions());
+  }
+
+  // A transfer cancelled after leaving the wheel but before its execution stays CANCELLED for the
+  // retention period instead of being purged by that execution.
+  @Test
+  void transfer_cancelled_while_due_is_kept_for_retention() throws Exception {
+    var blocking = new TransferAmountCommand("Id-789", "Id-456", BigDecimal.ONE);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    Mockito.when(accountsService.transferAmount(blocking)).thenAnswer(invocation -> {
+      started.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return null;
+    });
+    // a single worker, busy with the blocking transfer while the second one is due
+    var service = new ScheduledTransferService(accountsService, Clock.systemUTC(), 5, 1, 1,
+        Duration.ofSeconds(10));
+    try {
+      service.schedule(new ScheduleTransferCommand(blocking, Instant.now(), null, null));
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+      var due = service.schedule(new ScheduleTransferCommand(TRANSFER, Instant.now(), null, null));
+      await(() -> service.pendingEntries() == 0);
+
+      service.cancel(due.scheduledTransferId());
+      release.countDown();
+      // the purge of the blocking transfer, and the retention of the cancelled one
+      await(() -> service.pendingEntries() == 2);
+
+      assertEquals(ScheduledTransferStatus.CANCELLED,
+          service.getScheduledTransfer(due.scheduledTransferId()).status());
+      Mockito.verify(accountsService, Mockito.never()).transferAmount(TRANSFER);
+    } finally {
+      service.shutdown();
+    }
+  }
+
+  @Test
+  void rejects_excessive_jitter() {
+    var command = new ScheduleTransferCommand(TRANSFER, Instant.now(), Duration.ofDays(7),
+        ScheduledTransferService.MAX_JITTER.plusMillis(1));
+
+    assertThrows(IllegalArgumentException.class, () -> scheduledTransferService.schedule(command));
+    assertEquals(0, scheduledTransferService.pendingEntries());
+  }
+
+  @Test
+  void rejects_unsupported_currency() {
+    FxRateService fxRateService = Mockito.mock(FxRateService.class);
+    Mockito.when(accountsService.getFxRateService()).thenReturn(fxRateService);
+    Mockito.when(fxRateService.getRates()).thenReturn(new FxRates("EUR", Map.of(), Instant.now()));
+    var transfer = new TransferAmountCommand("Id-123", "Id-456", BigDecimal.ONE, "CHF");
+
+    var command = new ScheduleTransferCommand(transfer, Instant.now(), null, null);
+    assertThrows(IllegalArgumentException.class, () -> scheduledTransferService.schedule(command));
+  }
+
+  @Test
+  void rejects_non_positive_interval() {
+    var command = new ScheduleTransferCommand(TRANSFER, Instant.now(), Duration.ZERO, null);
+    assertThrows(IllegalArgumentException.class, () -> scheduledTransferService.schedule(command));
+  }
+
+  private ScheduledTransferResponse awaitStatus(String id, ScheduledTransferStatus status) {
+    await(() -> scheduledTransferService.getScheduledTransfer(id).status() == status);
+    return scheduledTransferService.getScheduledTransfer(id);
+  }
+
+  private boolean isPurged(String id) {
+    try {
+      scheduledTransferService.getScheduledTransfer(id);
+      return false;
+    } catch (ScheduledTransferNotFoundException e) {
+      return true;
+    }
+  }
+
+  private static void await(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+    assertTrue(condition.getAsBoolean(), "condition not met within 5 seconds");
+  }
+}
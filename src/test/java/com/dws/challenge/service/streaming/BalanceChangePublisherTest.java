@@ -0,0 +1,174 @@
+package com.dws.challenge.service.streaming;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.aggregate.BalanceChangeEvent;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class BalanceChangePublisherTest {
+
+  private final BalanceChangePublisher publisher = new BalanceChangePublisher(1, Duration.ofSeconds(10));
+
+  @AfterEach
+  void tearDown() {
+    publisher.shutdown();
+  }
+
+  @Test
+  void publishes_changes_of_subscribed_accounts_only() throws Exception {
+    var emitter = new RecordingEmitter(new CountDownLatch(0));
+    publisher.subscribe(new BalanceSubscription(emitter, Set.of("Id-123")));
+
+    publisher.publish(new Account("Id-123", new BigDecimal("10.00")));
+    publisher.publish(new Account("Id-456", new BigDecimal("20.00")));
+
+    emitter.awaitEvents(1);
+    Assertions.assertEquals(List.of(new BigDecimal("10.00")), emitter.balances());
+    Assertions.assertEquals(0, publisher.getSubscriptionCount("Id-456"));
+  }
+
+  // While a slow subscriber is busy writing, only the latest balance of each account is kept.
+  @Test
+  void coalesces_changes_for_slow_subscriber() throws Exception {
+    var release = new CountDownLatch(1);
+    var emitter = new RecordingEmitter(release);
+    publisher.subscribe(new BalanceSubscription(emitter, Set.of("Id-123")));
+
+    publisher.publish(new Account("Id-123", new BigDecimal("1.00")));
+    emitter.awaitSendStarted();
+    for (int i = 2; i <= 100; i++) {
+      publisher.publish(new Account("Id-123", new BigDecimal(i + ".00")));
+    }
+    release.countDown();
+
+    emitter.awaitEvents(2);
+    Assertions.assertEquals(List.of(new BigDecimal("1.00"), new BigDecimal("100.00")),
+        emitter.balances());
+  }
+
+  @Test
+  void disconnects_subscriber_lagging_behind() throws Exception {
+    var laggingPublisher = new BalanceChangePublisher(1, Duration.ofMillis(50));
+    try {
+      var release = new CountDownLatch(1);
+      var emitter = new RecordingEmitter(release);
+      laggingPublisher.subscribe(new BalanceSubscription(emitter, Set.of("Id-123")));
+
+      laggingPublisher.publish(new Account("Id-123", new BigDecimal("1.00")));
+      emitter.awaitSendStarted();
+      laggingPublisher.publish(new Account("Id-123", new BigDecimal("2.00")));
+      Thread.sleep(100);
+      laggingPublisher.publish(new Account("Id-123", new BigDecimal("3.00")));
+
+      Assertions.assertEquals(0, laggingPublisher.getSubscriptionCount("Id-123"));
+      release.countDown();
+    } finally {
+      laggingPublisher.shutdown();
+    }
+  }
+
+  // A client stalled in a write is disconnected by the watchdog without further changes, and does
+  // not hold up the other subscribers, even with a single dispatcher thread.
+  @Test
+  void stalled_subscriber_does_not_block_other_subscribers() throws Exception {
+    var stallingPublisher = new BalanceChangePublisher(1, Duration.ofMillis(100));
+    try {
+      var release = new CountDownLatch(1);
+      var stalled = new RecordingEmitter(release);
+      var other = new RecordingEmitter(new CountDownLatch(0));
+      stallingPublisher.subscribe(new BalanceSubscription(stalled, Set.of("Id-123")));
+      stallingPublisher.subscribe(new BalanceSubscription(other, Set.of("Id-456")));
+
+      stallingPublisher.publish(new Account("Id-123", new BigDecimal("1.00")));
+      stalled.awaitSendStarted();
+      stallingPublisher.publish(new Account("Id-456", new BigDecimal("2.00")));
+
+      other.awaitEvents(1);
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (stallingPublisher.getSubscriptionCount("Id-123") > 0 && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      Assertions.assertEquals(0, stallingPublisher.getSubscriptionCount("Id-123"));
+      Assertions.assertEquals(1, stallingPublisher.getSubscriptionCount("Id-456"));
+      Assertions.assertFalse(stalled.completed);
+
+      release.countDown();
+      // the writer completes the stream once its write returns
+      while (!stalled.completed && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      Assertions.assertTrue(stalled.completed);
+    } finally {
+      stallingPublisher.shutdown();
+    }
+  }
+
+  @Test
+  void records_pending_credits_of_subscribed_accounts_only() {
+    publisher.subscribe(new BalanceSubscription(new RecordingEmitter(new CountDownLatch(0)),
+        Set.of("Id-123")));
+
+    publisher.publishPendingCredits("Id-123");
+    publisher.publishPendingCredits("Id-123");
+    publisher.publishPendingCredits("Id-456");
+
+    Assertions.assertEquals(List.of("Id-123"), publisher.takeAccountsWithPendingCredits());
+    Assertions.assertEquals(List.of(), publisher.takeAccountsWithPendingCredits());
+  }
+
+  private static final class RecordingEmitter extends SseEmitter {
+
+    private final CountDownLatch release;
+    private final CountDownLatch sendStarted = new CountDownLatch(1);
+    private final List<BalanceChangeEvent> events = new CopyOnWriteArrayList<>();
+    private volatile boolean completed;
+
+    RecordingEmitter(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      sendStarted.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      builder.build().stream()
+          .filter(data -> data.getData() instanceof BalanceChangeEvent)
+          .forEach(data -> events.add((BalanceChangeEvent) data.getData()));
+    }
+
+    @Override
+    public void complete() {
+      completed = true;
+    }
+
+    void awaitSendStarted() throws InterruptedException {
+      Assertions.assertTrue(sendStarted.await(5, TimeUnit.SECONDS));
+    }
+
+    void awaitEvents(int count) throws InterruptedException {
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (events.size() < count && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      Assertions.assertEquals(count, events.size());
+    }
+
+    List<BigDecimal> balances() {
+      return events.stream().map(BalanceChangeEvent::balance).toList();
+    }
+  }
+}
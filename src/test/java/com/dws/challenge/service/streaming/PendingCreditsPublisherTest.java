@@ -0,0 +1,34 @@
+package com.dws.challenge.service.streaming;
+
+import com.dws.challenge.service.AccountsService;
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class PendingCreditsPublisherTest {
+
+  private final AccountsService accountsService = Mockito.mock(AccountsService.class);
+  private final BalanceChangePublisher balanceChangePublisher =
+      new BalanceChangePublisher(1, Duration.ofSeconds(10));
+  private final PendingCreditsPublisher pendingCreditsPublisher =
+      new PendingCreditsPublisher(accountsService, balanceChangePublisher, Duration.ofMillis(10));
+
+  @AfterEach
+  void tearDown() {
+    pendingCreditsPublisher.shutdown();
+    balanceChangePublisher.shutdown();
+  }
+
+  // Credits to a subscribed hot account are folded, and so published, by the periodic task.
+  @Test
+  void folds_credited_accounts_with_subscribers() {
+    balanceChangePublisher.subscribe(new BalanceSubscription(new SseEmitter(), Set.of("Id-123")));
+
+    balanceChangePublisher.publishPendingCredits("Id-123");
+
+    Mockito.verify(accountsService, Mockito.timeout(5_000)).getAccount("Id-123");
+  }
+}
@@ -40,7 +40,7 @@ class AccountsControllerTest {
     this.mockMvc = webAppContextSetup(this.webApplicationContext).build();
 
     // Reset the existing accounts before each test.
-    accountsService.getAccountsRepository().clearAccounts();
+    accountsService.clearAccounts();
   }
 
   @Test
@@ -248,4 +248,51 @@ class AccountsControllerTest {
         .andExpect(status().isOk())
         .andExpect(content().json(expectedResponseBody));
   }
-}
\ No newline at end of file
+
+  //Expect ledger totals reflecting created accounts and transfers.
+  @Test
+  void test_getLedgerTotals() throws Exception {
+    this.accountsService.createAccount(new Account("Id-123", BigDecimal.valueOf(200.50)));
+    this.accountsService.createAccount(new Account("Id-456", BigDecimal.valueOf(100.50)));
+
+    this.mockMvc.perform(
+        post("/v1/accounts/transfer")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"accountFromId\":\"Id-123\",\"accountToId\":\"Id-456\",\"amount\":50.00}")
+        )
+        .andExpect(status().isOk());
+
+    this.mockMvc.perform(get("/v1/accounts/ledger/totals"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalBalances.EUR").value(301.00))
+        .andExpect(jsonPath("$.transferCount").value(1));
+  }
+
+  //Expect the transfer converted to the payee currency with the bundled exchange rates.
+  @Test
+  void test_transferAmount_between_currencies() throws Exception {
+    this.mockMvc.perform(post("/v1/accounts").contentType(MediaType.APPLICATION_JSON)
+      .content("{\"accountId\":\"Id-123\",\"balance\":200.00,\"currency\":\"EUR\"}"))
+      .andExpect(status().isCreated());
+    this.mockMvc.perform(post("/v1/accounts").contentType(MediaType.APPLICATION_JSON)
+      .content("{\"accountId\":\"Id-456\",\"balance\":0,\"currency\":\"USD\"}"))
+      .andExpect(status().isCreated());
+    this.mockMvc.perform(post("/v1/accounts").contentType(MediaType.APPLICATION_JSON)
+      .content("{\"accountId\":\"Id-789\",\"balance\":0,\"currency\":\"XAU\"}"))
+      .andExpect(status().isBadRequest());
+
+    this.mockMvc.perform(
+        post("/v1/accounts/transfer")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"accountFromId\":\"Id-123\",\"accountToId\":\"Id-456\",\"amount\":100.00}")
+        )
+        .andExpect(status().isOk());
+
+    this.mockMvc.perform(get("/v1/accounts/Id-123"))
+        .andExpect(status().isOk())
+        .andExpect(content().string("{\"accountId\":\"Id-123\",\"balance\":100.00,\"currency\":\"EUR\"}"));
+    this.mockMvc.perform(get("/v1/accounts/Id-456"))
+        .andExpect(status().isOk())
+        .andExpect(content().string("{\"accountId\":\"Id-456\",\"balance\":108.52,\"currency\":\"USD\"}"));
+  }
+}
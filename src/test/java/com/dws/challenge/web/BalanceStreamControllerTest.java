@@ -0,0 +1,58 @@
+package com.dws.challenge.web;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.streaming.BalanceChangePublisher;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+class BalanceStreamControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @Autowired
+  private AccountsService accountsService;
+
+  @Autowired
+  private BalanceChangePublisher balanceChangePublisher;
+
+  @BeforeEach
+  void prepareMockMvc() {
+    this.mockMvc = webAppContextSetup(this.webApplicationContext).build();
+    accountsService.clearAccounts();
+  }
+
+  //Expect an open event stream registered for the account.
+  @Test
+  void test_streamBalances() throws Exception {
+    accountsService.createAccount(new Account("Id-stream", new BigDecimal("10.00")));
+
+    this.mockMvc.perform(get("/v1/accounts/balances/stream").param("accountIds", "Id-stream"))
+        .andExpect(status().isOk())
+        .andExpect(request().asyncStarted());
+
+    Assertions.assertEquals(1, balanceChangePublisher.getSubscriptionCount("Id-stream"));
+  }
+
+  //Expect 500: INTERNAL_SERVER_ERROR for an unknown account, as for the other account endpoints.
+  @Test
+  void test_streamBalances_unknownAccount() throws Exception {
+    this.mockMvc.perform(get("/v1/accounts/balances/stream").param("accountIds", "Id-unknown"))
+        .andExpect(status().isInternalServerError());
+  }
+}
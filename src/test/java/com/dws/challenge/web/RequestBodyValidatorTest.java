@@ -0,0 +1,54 @@
+package com.dws.challenge.web;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+class RequestBodyValidatorTest {
+
+  private final RequestBodyValidator validator = new RequestBodyValidator();
+
+  @Test
+  void validate_account() {
+    Assertions.assertFalse(validate(new Account("Id-123", BigDecimal.ZERO)).hasErrors());
+
+    Errors errors = validate(new Account(null, new BigDecimal("-0.01")));
+    Assertions.assertEquals(2, errors.getFieldErrorCount("accountId"));
+    Assertions.assertEquals("Initial balance must be positive.",
+        errors.getFieldError("balance").getDefaultMessage());
+
+    Assertions.assertEquals("NotEmpty",
+        validate(new Account("", BigDecimal.ONE)).getFieldError("accountId").getCode());
+    Assertions.assertEquals("NotNull",
+        validate(new Account("Id-123", null)).getFieldError("balance").getCode());
+    Assertions.assertFalse(validate(new Account("Id-123", BigDecimal.ONE, "USD")).hasErrors());
+    Assertions.assertEquals("Pattern",
+        validate(new Account("Id-123", BigDecimal.ONE, "usd")).getFieldError("currency").getCode());
+  }
+
+  @Test
+  void validate_transferAmountCommand() {
+    Assertions.assertFalse(
+        validate(new TransferAmountCommand("Id-123", "Id-456", new BigDecimal("0.01"))).hasErrors());
+
+    Errors errors = validate(new TransferAmountCommand(null, null, null));
+    Assertions.assertEquals(3, errors.getFieldErrorCount());
+
+    Assertions.assertEquals("Transfer amount must be greater than zero",
+        validate(new TransferAmountCommand("Id-123", "Id-456", new BigDecimal("0.00")))
+            .getFieldError("amount").getDefaultMessage());
+    Assertions.assertEquals("must be an ISO 4217 currency code",
+        validate(new TransferAmountCommand("Id-123", "Id-456", BigDecimal.ONE, "DOLLAR"))
+            .getFieldError("currency").getDefaultMessage());
+  }
+
+  private Errors validate(Object target) {
+    Errors errors = new BeanPropertyBindingResult(target, "target");
+    validator.validate(target, errors);
+    return errors;
+  }
+}
@@ -0,0 +1,93 @@
+package com.dws.challenge.web;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+class ScheduledTransfersControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Autowired
+  private WebApplicationContext webApplicationContext;
+
+  @BeforeEach
+  void prepareMockMvc() {
+    this.mockMvc = webAppContextSetup(this.webApplicationContext).build();
+  }
+
+  //Expect 201: CREATED then 200: OK on cancel, for a transfer scheduled in the future.
+  @Test
+  void test_scheduleTransfer_then_cancel() throws Exception {
+
+    var validRequestBody = """
+        {
+          "transfer": {
+            "accountFromId":"Id-123",
+            "accountToId" : "Id-456",
+            "amount": 50.00
+          },
+          "executeAt": "2999-01-01T00:00:00Z",
+          "interval": "PT1H",
+          "jitter": "PT5M"
+        }""";
+
+    String response = this.mockMvc.perform(
+            post("/v1/accounts/transfer/scheduled")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(validRequestBody)
+        )
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.status").value("PENDING"))
+        .andExpect(jsonPath("$.nextExecutionAt").value("2999-01-01T00:00:00Z"))
+        .andReturn().getResponse().getContentAsString();
+    String id = JsonPath.read(response, "$.scheduledTransferId");
+
+    this.mockMvc.perform(delete("/v1/accounts/transfer/scheduled/" + id))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("CANCELLED"));
+  }
+
+  //Expect 400: BAD Request, when the nested transfer is invalid.
+  @Test
+  void test_scheduleTransfer_when_transfer_amount_is_negative() throws Exception {
+
+    var requestBodyWithNegativeAmount = """
+        {
+          "transfer": {
+            "accountFromId":"Id-123",
+            "accountToId" : "Id-456",
+            "amount": -50.00
+          },
+          "executeAt": "2999-01-01T00:00:00Z"
+        }""";
+
+    this.mockMvc.perform(
+            post("/v1/accounts/transfer/scheduled")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBodyWithNegativeAmount)
+        )
+        .andExpect(status().isBadRequest());
+  }
+
+  //Expect 404: Not Found, for an unknown scheduled transfer.
+  @Test
+  void test_getScheduledTransfer_when_unknown() throws Exception {
+    this.mockMvc.perform(get("/v1/accounts/transfer/scheduled/unknown"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.code").value(404));
+  }
+}
@@ -0,0 +1,104 @@
+package com.dws.challenge.web.json;
+
+import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.aggregate.TransferResponse;
+import com.dws.challenge.domain.command.TransferAmountCommand;
+import com.dws.challenge.domain.valueobject.TransferStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class DomainJsonModuleTest {
+
+  // Same defaults as the ObjectMapper Spring Boot builds, with and without the hand-written codecs.
+  private final ObjectMapper reflectiveMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final ObjectMapper codecMapper = Jackson2ObjectMapperBuilder.json()
+      .modulesToInstall(new DomainJsonModule()).build();
+
+  private static final List<String> AMOUNTS = List.of("0", "0.00", "1", "-1", "50.00", "123.45",
+      "0.5", "0.000001", "0.0000001", "1E+3", "1E-10", "999999999999999999",
+      "9999999999999999999", "-0.000123", "12345678901234567890.123", "100.50");
+
+  @Test
+  void serializes_accounts_byte_identical_to_reflection() throws Exception {
+    for (String amount : AMOUNTS) {
+      Account account = new Account("Id-123", new BigDecimal(amount));
+      Assertions.assertArrayEquals(reflectiveMapper.writeValueAsBytes(account),
+          codecMapper.writeValueAsBytes(account), amount);
+    }
+    Account withCurrency = new Account("Id-123", new BigDecimal("162.35"), "JPY");
+    Assertions.assertEquals(reflectiveMapper.writeValueAsString(withCurrency),
+        codecMapper.writeValueAsString(withCurrency));
+    Account withoutBalance = new Account("Id-\"quoted\"", null);
+    Assertions.assertEquals(reflectiveMapper.writeValueAsString(withoutBalance),
+        codecMapper.writeValueAsString(withoutBalance));
+  }
+
+  @Test
+  void serializes_transfer_responses_byte_identical_to_reflection() throws Exception {
+    for (String amount : AMOUNTS) {
+      var response = new TransferResponse(TransferStatus.SUCCESS, new BigDecimal(amount));
+      Assertions.assertArrayEquals(reflectiveMapper.writeValueAsBytes(response),
+          codecMapper.writeValueAsBytes(response), amount);
+    }
+    var empty = new TransferResponse(null, null);
+    Assertions.assertEquals(reflectiveMapper.writeValueAsString(empty),
+        codecMapper.writeValueAsString(empty));
+  }
+
+  @Test
+  void formats_random_decimals_like_BigDecimal_toString() {
+    Random random = new Random(42);
+    char[] buffer = new char[32];
+    for (int i = 0; i < 100_000; i++) {
+      int precisionBits = 1 + random.nextInt(59);
+      long unscaled = random.nextLong() >> (64 - precisionBits);
+      BigDecimal value = new BigDecimal(BigInteger.valueOf(unscaled), random.nextInt(25));
+      int adjusted = value.precision() - 1 - value.scale();
+      if (value.precision() > 18 || adjusted < -6) {
+        continue;
+      }
+      int length = BigDecimalJsonWriter.format(unscaled, value.precision(), value.scale(), buffer);
+      Assertions.assertEquals(value.toString(), new String(buffer, 0, length));
+    }
+  }
+
+  @Test
+  void deserializes_accounts_like_reflection() throws Exception {
+    for (String json : List.of("{\"accountId\":\"Id-123\",\"balance\":1000}",
+        "{\"balance\":100.50,\"accountId\":\"Id-123\"}", "{\"accountId\":\"Id-123\"}",
+        "{\"accountId\":\"Id-123\",\"balance\":\"12.30\",\"unknown\":{\"a\":[1]}}",
+        "{\"accountId\":123,\"balance\":null}", "{}",
+        "{\"accountId\":\"Id-123\",\"balance\":10,\"currency\":\"USD\"}")) {
+      Account expected = reflectiveMapper.readValue(json, Account.class);
+      Account actual = codecMapper.readValue(json, Account.class);
+      Assertions.assertEquals(expected, actual, json);
+    }
+  }
+
+  @Test
+  void deserializes_transfer_commands_like_reflection() throws Exception {
+    for (String json : List.of(
+        "{\"accountFromId\":\"Id-123\",\"accountToId\":\"Id-456\",\"amount\":50.00}",
+        "{\"accountToId\":\"Id-456\",\"amount\":-50.00}",
+        "{\"amount\":1E+2,\"accountFromId\":\"Id-123\",\"extra\":true}",
+        "{\"accountFromId\":\"Id-123\",\"accountToId\":\"Id-456\",\"amount\":5,\"currency\":\"GBP\"}")) {
+      Assertions.assertEquals(reflectiveMapper.readValue(json, TransferAmountCommand.class),
+          codecMapper.readValue(json, TransferAmountCommand.class), json);
+    }
+  }
+
+  @Test
+  void rejects_non_object_payloads() {
+    Assertions.assertThrows(MismatchedInputException.class,
+        () -> codecMapper.readValue("[1,2]", TransferAmountCommand.class));
+    Assertions.assertThrows(MismatchedInputException.class,
+        () -> codecMapper.readValue("\"Id-123\"", Account.class));
+  }
+}